@@ -1,10 +1,25 @@
 import app.MoneyGoWhere;
+import exception.DuplicateArgumentFoundException;
+import ui.Flags;
+import ui.Ui;
+import utility.Parser;
+
+import java.util.Map;
 
 public class Main {
 
     public static void main(String[] args) {
-        MoneyGoWhere app = new MoneyGoWhere();
+        Map<String, String> options;
+
+        try {
+            Parser parser = new Parser();
+            options = parser.formatArguments(String.join(" ", args));
+        } catch (DuplicateArgumentFoundException e) {
+            new Ui().printError(Flags.Error.DUPLICATE_ARGUMENT_FOUND);
+            return;
+        }
+
+        MoneyGoWhere app = new MoneyGoWhere(options);
         app.run();
     }
 }
-
@@ -0,0 +1,596 @@
+package app;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import exception.DuplicateArgumentFoundException;
+import exception.statistic.ConflictFlagException;
+import exception.statistic.InvalidTopException;
+import exception.statistic.MissingRequiredFlagException;
+import exception.statistic.StartAfterEndDateException;
+import item.Item;
+import item.Menu;
+import order.Order;
+import order.OrderEntry;
+import order.Transaction;
+import payment.Payment;
+import payment.Refund;
+import statistic.ItemRank;
+import statistic.RankReport;
+import statistic.ReportEngine;
+import statistic.Statistic;
+import ui.Flags;
+import ui.StatisticUi;
+import ui.TransactionUi;
+import ui.Ui;
+import utility.Money;
+import utility.Parser;
+import validation.statistic.StatisticValidation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+/**
+ * The ApiServer class serves the menu, the order list and the sales reports as JSON over HTTP,
+ * for programs such as kitchen displays and dashboards. Each request is turned into the same command
+ * a user would type, and is checked by the same validation classes. The messages the command prints
+ * are returned with the result, instead of being shown on the console. Values that would change the meaning of
+ * the command they are put in, such as a name with a double quote in it, are rejected before the command is built.
+ * <pre>
+ * GET    /menu                 lists the items on the menu
+ * POST   /menu                 adds an item: {"name": ..., "price": ...}
+ * PUT    /menu/{index}         updates an item: {"name": ..., "price": ...}, either may be left out
+ * DELETE /menu/{index}         deletes an item
+ * GET    /orders               lists the orders
+ * GET    /orders/{id}          shows an order
+ * POST   /orders               adds and pays for an order:
+ *                              {"items": [{"item": index or name, "quantity": ...}, ...],
+ *                               "payment": {"amount": ..., "type": ...}}
+ * POST   /orders/{id}/refund   refunds an order
+ * GET    /report?year=...      reports the sales and item rankings of a year,
+ * GET    /report?from=...&amp;to=... or of a date range, with an optional top=... to limit the rankings
+ * </pre>
+ */
+public class ApiServer {
+    public static final int DEFAULT_PORT = 8080;
+
+    private static final int OK = 200;
+    private static final int CREATED = 201;
+    private static final int BAD_REQUEST = 400;
+    private static final int NOT_FOUND = 404;
+    private static final int METHOD_NOT_ALLOWED = 405;
+
+    private static final Parser PARSER = new Parser();
+
+    /**
+     * An index in a path: digits only, few enough to fit an int.
+     */
+    private static final Pattern INDEX = Pattern.compile("\\d{1,9}");
+
+    /**
+     * A value put in a command as it is: it cannot run into the next word, or into the next entry of a list.
+     */
+    private static final Pattern PLAIN_VALUE = Pattern.compile("[^\\s\"\\[\\],:]*");
+
+    /**
+     * A value put in a command in double quotes: it cannot close the quotes early.
+     */
+    private static final Pattern QUOTED_VALUE = Pattern.compile("[^\"]*");
+
+    /**
+     * An item of an order entry, which is put in double quotes inside the [ ] of the list of entries.
+     */
+    private static final Pattern ORDER_ITEM = Pattern.compile("[^\"\\]]*");
+
+    private Menu menu;
+    private Transaction transactions;
+    private int port;
+    private ExecutorService requestPool;
+    private HttpServer server;
+
+    /**
+     * The status and content of the response to a request, apart from the messages printed while handling it.
+     */
+    private static class Response {
+        private int status;
+        private Map<String, Object> content;
+
+        private Response(int status) {
+            this.status = status;
+            this.content = new LinkedHashMap<>();
+        }
+
+        private Response with(String key, Object value) {
+            content.put(key, value);
+            return this;
+        }
+    }
+
+    /**
+     * Constructs an ApiServer. Requests are handled on a pool that grows with the number of requests in progress.
+     *
+     * @param menu         the menu shared with the terminals
+     * @param transactions the order list shared with the terminals
+     * @param port         the port to listen on, or 0 for any free port
+     */
+    public ApiServer(Menu menu, Transaction transactions, int port) {
+        this.menu = menu;
+        this.transactions = transactions;
+        this.port = port;
+        this.requestPool = Executors.newCachedThreadPool();
+    }
+
+    /**
+     * Starts handling requests in the background. Requests are handled until the server is stopped.
+     *
+     * @throws IOException if the port cannot be listened on
+     */
+    public void start() throws IOException {
+        // Without this, small responses wait for the client to acknowledge the headers before the body is sent
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/menu", exchange -> handle(exchange, this::routeMenu));
+        server.createContext("/orders", exchange -> handle(exchange, this::routeOrders));
+        server.createContext("/report", exchange -> handle(exchange, this::routeReport));
+        server.setExecutor(requestPool);
+        server.start();
+
+        new Ui().printApiStarted(server.getAddress().getPort());
+        Ui.flushOutput();
+    }
+
+    /**
+     * Returns the port the server listens on, which is the free port chosen when it was constructed with port 0.
+     *
+     * @return the port the server listens on
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops handling requests.
+     */
+    public void stop() {
+        server.stop(0);
+        requestPool.shutdown();
+    }
+
+    /**
+     * A route that handles the requests to one context of the server.
+     */
+    private interface Route {
+        Response handle(String method, String[] path, HttpExchange exchange)
+                throws IOException, DuplicateArgumentFoundException;
+    }
+
+    /**
+     * Handles a request, collecting everything printed while handling it, and sends the response as JSON.
+     *
+     * @param exchange the request and its response
+     * @param route    the route of the context the request was made to
+     */
+    private void handle(HttpExchange exchange, Route route) throws IOException {
+        StringWriter printed = new StringWriter();
+        Response response;
+
+        try {
+            Ui.setOutput(new PrintWriter(printed));
+            try {
+                String[] path = exchange.getRequestURI().getPath().replaceAll("^/+|/+$", "").split("/+");
+                response = route.handle(exchange.getRequestMethod(), path, exchange);
+            } catch (DuplicateArgumentFoundException e) {
+                new Ui().printError(Flags.Error.DUPLICATE_ARGUMENT_FOUND);
+                response = new Response(BAD_REQUEST);
+            } finally {
+                Ui.flushOutput();
+                Ui.resetStreams();
+            }
+
+            response.content.put("messages", toMessages(printed.toString()));
+            byte[] body = PARSER.jsonStringifyCompact(response.content).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(response.status, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Response routeMenu(String method, String[] path, HttpExchange exchange)
+            throws IOException, DuplicateArgumentFoundException {
+        if (path.length == 1 && method.equals("GET")) {
+            return new Response(OK).with("items", listItems());
+        } else if (path.length == 1 && method.equals("POST")) {
+            return addItem(readBody(exchange));
+        } else if (path.length == 2 && !INDEX.matcher(path[1]).matches()) {
+            return error(NOT_FOUND, Flags.Error.RESOURCE_NOT_FOUND);
+        } else if (path.length == 2 && method.equals("PUT")) {
+            return updateItem(path[1], readBody(exchange));
+        } else if (path.length == 2 && method.equals("DELETE")) {
+            return deleteItem(path[1]);
+        } else if (path.length <= 2) {
+            return error(METHOD_NOT_ALLOWED, Flags.Error.METHOD_NOT_ALLOWED);
+        }
+        return error(NOT_FOUND, Flags.Error.RESOURCE_NOT_FOUND);
+    }
+
+    private Response routeOrders(String method, String[] path, HttpExchange exchange)
+            throws IOException, DuplicateArgumentFoundException {
+        if (path.length == 1 && method.equals("GET")) {
+            List<Map<String, Object>> orders = new ArrayList<>();
+            for (Order order : transactions.getOrderList()) {
+                orders.add(toJson(order));
+            }
+            return new Response(OK).with("orders", orders);
+        } else if (path.length == 1 && method.equals("POST")) {
+            return addOrder(readBody(exchange));
+        } else if (path.length == 2 && method.equals("GET")) {
+            Order order = transactions.findOrder(path[1]);
+            if (order == null) {
+                return error(NOT_FOUND, Flags.Error.ORDER_NOT_FOUND);
+            }
+            return new Response(OK).with("order", toJson(order));
+        } else if (path.length == 3 && path[2].equals("refund") && method.equals("POST")) {
+            return refundOrder(path[1]);
+        } else if (path.length <= 2 || path.length == 3 && path[2].equals("refund")) {
+            return error(METHOD_NOT_ALLOWED, Flags.Error.METHOD_NOT_ALLOWED);
+        }
+        return error(NOT_FOUND, Flags.Error.RESOURCE_NOT_FOUND);
+    }
+
+    private Response routeReport(String method, String[] path, HttpExchange exchange)
+            throws DuplicateArgumentFoundException {
+        if (path.length != 1) {
+            return error(NOT_FOUND, Flags.Error.RESOURCE_NOT_FOUND);
+        } else if (!method.equals("GET")) {
+            return error(METHOD_NOT_ALLOWED, Flags.Error.METHOD_NOT_ALLOWED);
+        }
+        return report(readQuery(exchange.getRequestURI().getRawQuery()));
+    }
+
+    /**
+     * Lists the items on the menu with their indexes. The menu is locked while it is read,
+     * so that the list is not changed by a terminal halfway through.
+     */
+    private List<Map<String, Object>> listItems() {
+        List<Map<String, Object>> items = new ArrayList<>();
+        synchronized (menu) {
+            for (int index = 0; index < menu.getIndexCount(); index++) {
+                if (menu.hasItem(index)) {
+                    items.add(toJson(index, menu.getItem(index)));
+                }
+            }
+        }
+        return items;
+    }
+
+    private Response addItem(JsonObject body) throws DuplicateArgumentFoundException {
+        if (body == null) {
+            return error(BAD_REQUEST, Flags.Error.INVALID_REQUEST_BODY);
+        } else if (!isValue(body.get("name"), QUOTED_VALUE) || !isValue(body.get("price"), PLAIN_VALUE)) {
+            return error(BAD_REQUEST, Flags.Error.INVALID_REQUEST_VALUE);
+        }
+
+        Command command = new Command("/additem" + quotedArgument("n", body.get("name"))
+                + argument("p", body.get("price")));
+        synchronized (menu) {
+            if (!menu.addItem(command)) {
+                return new Response(BAD_REQUEST);
+            }
+            int index = menu.getIndexCount() - 1;
+            return new Response(CREATED).with("item", toJson(index, menu.getItem(index)));
+        }
+    }
+
+    private Response updateItem(String index, JsonObject body) throws DuplicateArgumentFoundException {
+        if (body == null) {
+            return error(BAD_REQUEST, Flags.Error.INVALID_REQUEST_BODY);
+        } else if (!isValue(body.get("name"), QUOTED_VALUE) || !isValue(body.get("price"), PLAIN_VALUE)) {
+            return error(BAD_REQUEST, Flags.Error.INVALID_REQUEST_VALUE);
+        }
+
+        Command command = new Command("/updateitem -i " + index + quotedArgument("n", body.get("name"))
+                + argument("p", body.get("price")));
+        synchronized (menu) {
+            if (!menu.updateItem(command)) {
+                return new Response(BAD_REQUEST);
+            }
+            int itemIndex = Integer.parseInt(index);
+            return new Response(OK).with("item", toJson(itemIndex, menu.getItem(itemIndex)));
+        }
+    }
+
+    private Response deleteItem(String index) throws DuplicateArgumentFoundException {
+        Command command = new Command("/deleteitem -i " + index);
+        return new Response(menu.deleteItem(command) ? OK : BAD_REQUEST);
+    }
+
+    /**
+     * Adds an order with the items in the request, and pays for it with the payment in the request.
+     * The items are given to the /addorder -I command, and the payment is given as the /pay command
+     * that the order asks for once it is added.
+     */
+    private Response addOrder(JsonObject body) throws DuplicateArgumentFoundException {
+        if (body == null || body.has("items") && !body.get("items").isJsonArray()) {
+            return error(BAD_REQUEST, Flags.Error.INVALID_REQUEST_BODY);
+        }
+
+        StringBuilder input = new StringBuilder("/addorder -I");
+        if (body.has("items")) {
+            List<String> entries = new ArrayList<>();
+            for (JsonElement entry : body.getAsJsonArray("items")) {
+                if (!entry.isJsonObject()) {
+                    return error(BAD_REQUEST, Flags.Error.INVALID_REQUEST_BODY);
+                }
+                if (!isValue(entry.getAsJsonObject().get("item"), ORDER_ITEM)
+                        || !isValue(entry.getAsJsonObject().get("quantity"), PLAIN_VALUE)) {
+                    return error(BAD_REQUEST, Flags.Error.INVALID_REQUEST_VALUE);
+                }
+                entries.add(toItem(entry.getAsJsonObject().get("item")) + ":"
+                        + toValue(entry.getAsJsonObject().get("quantity")));
+            }
+            input.append(" [").append(String.join(",", entries)).append("]");
+        }
+
+        String payment = "";
+        if (body.has("payment") && body.get("payment").isJsonObject()) {
+            JsonObject paymentBody = body.getAsJsonObject("payment");
+            if (!isValue(paymentBody.get("amount"), PLAIN_VALUE) || !isValue(paymentBody.get("type"), PLAIN_VALUE)) {
+                return error(BAD_REQUEST, Flags.Error.INVALID_REQUEST_VALUE);
+            }
+            payment = "/pay" + argument("a", paymentBody.get("amount"))
+                    + argument("t", paymentBody.get("type"));
+        }
+
+        Ui.setInput(new BufferedReader(new StringReader(payment)));
+        Order order;
+        try {
+            order = new Order(new Command(input.toString()), menu, transactions, new TransactionUi(), new Payment());
+        } catch (NoSuchElementException e) {
+            return new Response(BAD_REQUEST);
+        }
+
+        if (transactions.findOrder(order.getOrderId()) == null) {
+            return new Response(BAD_REQUEST);
+        }
+        return new Response(CREATED).with("order", toJson(order));
+    }
+
+    private Response refundOrder(String orderId) throws DuplicateArgumentFoundException {
+        if (!PLAIN_VALUE.matcher(orderId).matches() || transactions.findOrder(orderId) == null) {
+            return error(NOT_FOUND, Flags.Error.ORDER_NOT_FOUND);
+        }
+        Command command = new Command("/refundorder -i " + orderId);
+        if (!new Refund().refundTransaction(command, transactions)) {
+            return new Response(BAD_REQUEST);
+        }
+        return new Response(OK).with("order", toJson(transactions.findOrder(orderId)));
+    }
+
+    /**
+     * Reports the total, daily and monthly sales and the item rankings of the date range in the query,
+     * checking the range the same way as the /report command.
+     */
+    private Response report(Map<String, String> query) throws DuplicateArgumentFoundException {
+        StringBuilder input = new StringBuilder("/report --sales --rank");
+        for (String key : new String[]{"year", "from", "to", "top"}) {
+            if (query.containsKey(key) && !PLAIN_VALUE.matcher(query.get(key)).matches()) {
+                return error(BAD_REQUEST, Flags.Error.INVALID_REQUEST_VALUE);
+            } else if (query.containsKey(key)) {
+                input.append(" --").append(key).append(" ").append(query.get(key));
+            }
+        }
+
+        Command command = Statistic.mapArguments(new Command(input.toString()));
+        StatisticValidation sv = new StatisticValidation(command);
+        StatisticUi ui = new StatisticUi();
+        Statistic statistic;
+
+        try {
+            sv.validateRequiredFlag();
+            sv.validateTop();
+            statistic = new Statistic(command);
+        } catch (NumberFormatException e) {
+            ui.printError(Flags.Error.INVALID_YEAR_FORMAT);
+            return new Response(BAD_REQUEST);
+        } catch (DateTimeParseException e) {
+            ui.printError(Flags.Error.INVALID_DATE_FORMAT);
+            return new Response(BAD_REQUEST);
+        } catch (StartAfterEndDateException e) {
+            ui.printError(Flags.Error.DATE_RANGE_INVALID);
+            return new Response(BAD_REQUEST);
+        } catch (ConflictFlagException e) {
+            ui.printError(Flags.Error.CONFLICT_FLAG);
+            return new Response(BAD_REQUEST);
+        } catch (MissingRequiredFlagException e) {
+            ui.printError(Flags.Error.REQUIRED_FLAG_MISSING);
+            return new Response(BAD_REQUEST);
+        } catch (InvalidTopException e) {
+            ui.printError(Flags.Error.INVALID_TOP_FORMAT);
+            return new Response(BAD_REQUEST);
+        }
+
+        ReportEngine reportEngine = new ReportEngine(transactions, menu, statistic.getStartDate(),
+                statistic.getEndDate());
+        for (ReportEngine.Metric metric : ReportEngine.Metric.values()) {
+            reportEngine.plan(metric);
+        }
+        reportEngine.run();
+
+        String top = command.getArgumentMap().get("top");
+        int limit = top == null ? Integer.MAX_VALUE : Integer.parseInt(top);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("from", statistic.getStartDate().toLocalDate().toString());
+        report.put("to", statistic.getEndDate().toLocalDate().toString());
+        report.put("totalSales", reportEngine.getTotalSales());
+        report.put("dailySales", toDateMap(reportEngine.getDailySales()));
+        report.put("monthlySales", toDateMap(reportEngine.getMonthlySales()));
+        report.put("topSellingItems", rank(reportEngine.getItemSales(), limit));
+        report.put("mostPopularItems", rank(reportEngine.getItemQuantities(), limit));
+        return new Response(OK).with("report", report);
+    }
+
+    private Response error(int status, Flags.Error error) {
+        new Ui().printError(error);
+        return new Response(status);
+    }
+
+    /**
+     * Reads the body of the request as a JSON object.
+     *
+     * @return the JSON object, or null if the body is not a JSON object
+     */
+    private JsonObject readBody(HttpExchange exchange) throws IOException {
+        try (InputStream input = exchange.getRequestBody()) {
+            String body = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            return PARSER.jsonParse(body, JsonObject.class);
+        } catch (JsonParseException | ClassCastException e) {
+            return null;
+        }
+    }
+
+    private Map<String, String> readQuery(String rawQuery) {
+        Map<String, String> query = new LinkedHashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            String[] keyValue = pair.split("=", 2);
+            query.put(URLDecoder.decode(keyValue[0], StandardCharsets.UTF_8),
+                    keyValue.length == 2 ? URLDecoder.decode(keyValue[1], StandardCharsets.UTF_8) : "");
+        }
+        return query;
+    }
+
+    /**
+     * Returns whether the value in a request body can be put in a command: it is left out, or it is a single
+     * value that matches the pattern.
+     */
+    private static boolean isValue(JsonElement value, Pattern pattern) {
+        if (value == null || value.isJsonNull()) {
+            return true;
+        }
+        return value.isJsonPrimitive() && pattern.matcher(value.getAsString()).matches();
+    }
+
+    /**
+     * Returns the value as a command argument with the given flag, or nothing if there is no value.
+     */
+    private static String argument(String flag, JsonElement value) {
+        return value == null || value.isJsonNull() ? "" : " -" + flag + " " + toValue(value);
+    }
+
+    private static String quotedArgument(String flag, JsonElement value) {
+        return value == null || value.isJsonNull() ? "" : " -" + flag + " \"" + toValue(value) + "\"";
+    }
+
+    /**
+     * Returns an item of an order entry as it is typed in an /addorder -I command:
+     * an index as it is, and a name in double quotes.
+     */
+    private static String toItem(JsonElement item) {
+        if (item != null && item.isJsonPrimitive() && item.getAsJsonPrimitive().isNumber()) {
+            return toValue(item);
+        }
+        return "\"" + toValue(item) + "\"";
+    }
+
+    private static String toValue(JsonElement value) {
+        if (value == null || value.isJsonNull()) {
+            return "";
+        }
+        return value.isJsonPrimitive() ? value.getAsString() : value.toString();
+    }
+
+    private static List<String> toMessages(String printed) {
+        List<String> messages = new ArrayList<>();
+        for (String line : printed.split("\\R")) {
+            if (!line.isBlank()) {
+                messages.add(line.trim());
+            }
+        }
+        return messages;
+    }
+
+    private static Map<String, Object> toJson(int index, Item item) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("index", index);
+        json.put("name", item.getName());
+        json.put("price", item.getPrice());
+        return json;
+    }
+
+    private static Map<String, Object> toJson(Order order) {
+        List<Map<String, Object>> entries = new ArrayList<>();
+        for (OrderEntry orderEntry : order.getOrderEntries()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", orderEntry.getItem().getName());
+            entry.put("price", Money.toDollars(orderEntry.getUnitPriceInCents()));
+            entry.put("quantity", orderEntry.getQuantity());
+            entries.add(entry);
+        }
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", order.getOrderId());
+        json.put("dateTime", order.getFormatDateTime());
+        json.put("status", order.getStatus());
+        json.put("paymentType", order.getPaymentType());
+        json.put("subtotal", order.getSubTotal());
+        json.put("entries", entries);
+        return json;
+    }
+
+    private static Map<String, Double> toDateMap(Map<LocalDateTime, Double> sales) {
+        Map<String, Double> dateMap = new LinkedHashMap<>();
+        for (Map.Entry<LocalDateTime, Double> entry : new TreeMap<>(sales).entrySet()) {
+            dateMap.put(entry.getKey().toLocalDate().toString(), entry.getValue());
+        }
+        return dateMap;
+    }
+
+    /**
+     * Ranks items with a higher value first, and items with the same value by name, using the selection
+     * of the rank reports.
+     */
+    private static <T extends Number> List<Map<String, Object>> rank(Map<String, T> values, int limit) {
+        PriorityQueue<ItemRank> top = RankReport.selectTop(values.keySet(),
+                name -> values.get(name).doubleValue(), limit);
+
+        List<Map<String, Object>> ranking = new ArrayList<>();
+        while (!top.isEmpty()) {
+            String name = top.poll().getName();
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("name", name);
+            json.put("value", values.get(name));
+            ranking.add(json);
+        }
+        return ranking;
+    }
+}
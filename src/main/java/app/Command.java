@@ -10,6 +10,8 @@ import java.util.Map;
  * It parses the command and its arguments, and stores them for later use.
  */
 public class Command {
+    private static final Parser PARSER = new Parser();
+
     private String userInput;
     private String command;
     private String argumentString;
@@ -17,21 +19,21 @@ public class Command {
 
     /**
      * Constructs a Command object by parsing the user input string. It uses the Parser class to split the input
-     * into command and arguments, and then formats the arguments into a map.
+     * into command and arguments, and then formats the arguments into a map. The Parser has no state of its own,
+     * so a single instance is shared by every command.
      *
      * @param userInput the input string entered by the user
      */
     public Command(String userInput) throws DuplicateArgumentFoundException {
         assert !userInput.isBlank() : "Command is empty";
 
-        Parser parser = new Parser();
-        String[] userInputs = parser.formatInput(userInput);
+        String[] userInputs = PARSER.formatInput(userInput);
 
         this.userInput = userInput;
         this.command = userInputs[0];
         this.argumentString = userInputs[1];
 
-        this.argumentMap = parser.formatArguments(argumentString);
+        this.argumentMap = PARSER.formatArguments(argumentString);
     }
 
     /**
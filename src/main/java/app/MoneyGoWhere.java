@@ -1,58 +1,216 @@
 package app;
 
-import exception.DuplicateArgumentFoundException;
 import item.Menu;
 import order.Transaction;
 import ui.Flags;
 import ui.Ui;
+import utility.FsyncPolicy;
+import utility.PersistenceService;
+import utility.StorageFormat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
 
 
 public class MoneyGoWhere {
+    private static final int MAX_PORT = 65535;
 
     private Menu menu;
     private Transaction transactions;
     private final String ORDER_DATA_FILE = "orders.json";
     private final String MENU_DATA_FILE = "menu.json";
+    private boolean isScriptMode;
+    private String scriptPath;
+    private int flushInterval;
+    private boolean isQuiet;
+    private boolean isServerMode;
+    private int serverPort;
+    private boolean isApiMode;
+    private int apiPort;
 
 
     public MoneyGoWhere() {
+        PersistenceService.getService().startInBackground();
         menu = new Menu(MENU_DATA_FILE);
         transactions = new Transaction(ORDER_DATA_FILE);
+        transactions.resolveItems(menu);
+    }
+
+    /**
+     * Constructs the application with the options given when it was launched.
+     * The --fsync option sets how often saved data is forced to the storage device:
+     * always, exit, or a number of milliseconds between forced writes.
+     * The --storage option sets the format the order list is saved in: json, or binary for a smaller file that
+     * loads faster. An order list saved in the other format is converted when it is loaded.
+     * The --script option runs the commands in the given file, or from standard input if no file is given,
+     * instead of prompting for them. The --flush-every option sets how many commands a script runs between saves,
+     * and the --quiet option hides the output of the commands in a script.
+     * The --serve option takes commands from terminals connecting to the given port of the local machine instead.
+     * The --http option serves the menu, orders and reports as JSON on the given port of the local machine,
+     * on its own or together with the --serve option.
+     * Changes to the menu and the order list are saved on a background thread, so commands do not wait for them.
+     *
+     * @param options the launch options, mapped from option name to value
+     */
+    public MoneyGoWhere(Map<String, String> options) {
+        if (options.containsKey("fsync")) {
+            try {
+                FsyncPolicy.setPolicy(FsyncPolicy.parse(options.get("fsync")));
+            } catch (IllegalArgumentException e) {
+                new Ui().printError(Flags.Error.INVALID_FSYNC_POLICY);
+            }
+        }
+        if (options.containsKey("storage")) {
+            try {
+                StorageFormat.setFormat(StorageFormat.parse(options.get("storage")));
+            } catch (IllegalArgumentException e) {
+                new Ui().printError(Flags.Error.INVALID_STORAGE_FORMAT);
+            }
+        }
+
+        isScriptMode = options.containsKey("script");
+        scriptPath = options.get("script");
+        isQuiet = options.containsKey("quiet");
+        flushInterval = ScriptRunner.FLUSH_AT_END;
+        if (options.containsKey("flush-every")) {
+            try {
+                flushInterval = Integer.parseInt(String.valueOf(options.get("flush-every")).trim());
+            } catch (NumberFormatException e) {
+                flushInterval = -1;
+            }
+            if (flushInterval <= 0) {
+                new Ui().printError(Flags.Error.INVALID_FLUSH_INTERVAL);
+                flushInterval = ScriptRunner.FLUSH_AT_END;
+            }
+        }
+
+        isServerMode = options.containsKey("serve");
+        serverPort = TerminalServer.DEFAULT_PORT;
+        if (options.get("serve") != null) {
+            try {
+                serverPort = Integer.parseInt(options.get("serve").trim());
+            } catch (NumberFormatException e) {
+                serverPort = -1;
+            }
+            if (serverPort < 0 || serverPort > MAX_PORT) {
+                new Ui().printError(Flags.Error.INVALID_PORT);
+                serverPort = TerminalServer.DEFAULT_PORT;
+            }
+        }
+
+        isApiMode = options.containsKey("http");
+        apiPort = ApiServer.DEFAULT_PORT;
+        if (options.get("http") != null) {
+            try {
+                apiPort = Integer.parseInt(options.get("http").trim());
+            } catch (NumberFormatException e) {
+                apiPort = -1;
+            }
+            if (apiPort < 0 || apiPort > MAX_PORT) {
+                new Ui().printError(Flags.Error.INVALID_HTTP_PORT);
+                apiPort = ApiServer.DEFAULT_PORT;
+            }
+        }
+
+        PersistenceService.getService().startInBackground();
+        menu = new Menu(MENU_DATA_FILE);
+        transactions = new Transaction(ORDER_DATA_FILE);
+        transactions.resolveItems(menu);
     }
 
     /**
      * Runs the MoneyGoWhere application. This method prompts the user for input using the Ui class, creates a Command
      * object based on the user input, and passes the Command object to the Router to process the command.
-     * The loop continues until the user types "exit" to exit the application.
+     * The loop continues until the user types "exit" to exit the application, or until there is no more input.
+     * If the application was launched with a script, the script is run instead,
+     * and if it was launched as a server, commands are taken from the terminals connected to it
+     * and from the HTTP API.
      */
     public void run() {
+        if (isScriptMode) {
+            runScript();
+            return;
+        }
+        if (isServerMode || isApiMode) {
+            runServer();
+            return;
+        }
 
-        Ui ui = new Ui();
-        Router router = new Router(menu, transactions);
-
-        ui.printWelcomeMessage();
+        new TerminalSession(menu, transactions).run();
+        shutdown();
+        new Ui().printExit();
+        Ui.flushOutput();
+    }
 
-        while (true) {
+    /**
+     * Serves the HTTP API and the terminals that connect to the server until the application is stopped.
+     * The HTTP API is served in the background, so this returns straight away if there is no terminal server.
+     * The order list is saved when the application is stopped.
+     */
+    private void runServer() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
+        if (isApiMode) {
             try {
-                ui.promptUserInput();
-                String userInput = ui.inputHandler();
-
-                if (userInput.equals("exit")) {
-                    ui.printExit();
-                    break;
-                }
-                if (!userInput.isBlank()) {
-                    Command command = new Command(userInput);
-                    router.handleRoute(command);
-                } else {
-                    System.out.println("INPUT IS BLANK");
-                }
-            } catch (DuplicateArgumentFoundException e) {
-                ui.printError(Flags.Error.DUPLICATE_ARGUMENT_FOUND);
+                new ApiServer(menu, transactions, apiPort).start();
+            } catch (IOException e) {
+                new Ui().printError(Flags.Error.SERVER_NOT_STARTED);
             }
         }
+        if (isServerMode) {
+            try {
+                new TerminalServer(menu, transactions, serverPort).run();
+            } catch (IOException e) {
+                new Ui().printError(Flags.Error.SERVER_NOT_STARTED);
+            }
+        }
+        Ui.flushOutput();
     }
 
+    /**
+     * Runs the commands in the script file, or from standard input if no file was given.
+     */
+    private void runScript() {
+        ScriptRunner scriptRunner = new ScriptRunner(menu, transactions, flushInterval, isQuiet);
 
-}
+        if (scriptPath == null) {
+            scriptRunner.run();
+        } else {
+            try (BufferedReader reader = Files.newBufferedReader(Path.of(scriptPath))) {
+                Ui.setInput(reader);
+                scriptRunner.run();
+            } catch (IOException e) {
+                new Ui().printError(Flags.Error.SCRIPT_NOT_FOUND);
+            }
+        }
+
+        syncPending();
+    }
+
+    /**
+     * Saves the order list and forces every pending write to the storage device before the application exits.
+     */
+    private void shutdown() {
+        transactions.save();
+        syncPending();
+    }
 
+    /**
+     * Waits for every queued save to be written, then forces every pending write to the storage device.
+     */
+    private void syncPending() {
+        try {
+            PersistenceService.getService().awaitDurable();
+        } catch (IOException e) {
+            new Ui().printError(Flags.Error.CHANGES_NOT_SAVED);
+            Ui.getOutput().println(e.getMessage());
+        }
+        try {
+            FsyncPolicy.getPolicy().syncPending();
+        } catch (IOException e) {
+            Ui.getOutput().println(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package app;
+
+import exception.DuplicateArgumentFoundException;
+import item.Menu;
+import order.Transaction;
+import ui.Flags;
+import ui.Ui;
+
+import java.io.PrintWriter;
+import java.util.NoSuchElementException;
+
+/**
+ * The ScriptRunner class runs the commands of a script one after another without prompting for them,
+ * such as to import the orders taken on a terminal that was offline. Saves are deferred while the script runs,
+ * so the data is saved once at the end, or once every few commands if a flush interval is given.
+ * The output of each command is written out once the command is done, or discarded if the script is run quietly.
+ */
+public class ScriptRunner {
+    /**
+     * The flush interval for saving only once the script has ended.
+     */
+    public static final int FLUSH_AT_END = 0;
+
+    private static final String COMMENT_PREFIX = "#";
+    private static final String EXIT_COMMAND = "exit";
+
+    private Ui ui;
+    private Router router;
+    private Menu menu;
+    private Transaction transactions;
+    private int flushInterval;
+    private boolean isQuiet;
+
+    /**
+     * Constructs a ScriptRunner. The script is read from the input of the Ui, so that commands which prompt
+     * for more input, such as /addorder prompting for payment, read it from the following lines of the script.
+     *
+     * @param menu          the menu used by the commands
+     * @param transactions  the order list used by the commands
+     * @param flushInterval the number of commands after which the data is saved, or FLUSH_AT_END
+     * @param isQuiet       true to discard the output of the commands, including their error messages
+     */
+    public ScriptRunner(Menu menu, Transaction transactions, int flushInterval, boolean isQuiet) {
+        this.ui = new Ui();
+        this.router = new Router(menu, transactions);
+        this.menu = menu;
+        this.transactions = transactions;
+        this.flushInterval = flushInterval;
+        this.isQuiet = isQuiet;
+    }
+
+    /**
+     * Runs every command until the end of the script or an exit command, then saves the data
+     * and prints how many commands were run. Blank lines and lines starting with # are skipped.
+     */
+    public void run() {
+        long startTime = System.nanoTime();
+        int commandCount = 0;
+        boolean hasEndedEarly = false;
+
+        PrintWriter output = Ui.getOutput();
+        menu.setSaveDeferred(true);
+        transactions.setSaveDeferred(true);
+        if (isQuiet) {
+            Ui.setQuiet(true);
+        }
+        try {
+            String userInput = ui.readLine();
+            while (userInput != null && !userInput.equals(EXIT_COMMAND)) {
+                if (!userInput.isEmpty() && !userInput.startsWith(COMMENT_PREFIX)) {
+                    commandCount++;
+                    runCommand(userInput);
+                    Ui.flushOutput();
+                    if (flushInterval != FLUSH_AT_END && commandCount % flushInterval == 0) {
+                        menu.flush();
+                        transactions.flush();
+                    }
+                }
+                userInput = ui.readLine();
+            }
+        } catch (NoSuchElementException e) {
+            hasEndedEarly = true;
+        } finally {
+            Ui.setOutput(output);
+            menu.setSaveDeferred(false);
+            transactions.setSaveDeferred(false);
+        }
+
+        if (hasEndedEarly) {
+            ui.printError(Flags.Error.SCRIPT_ENDED_EARLY);
+        }
+
+        ui.printScriptSummary(commandCount, (System.nanoTime() - startTime) / 1_000_000);
+        Ui.flushOutput();
+    }
+
+    private void runCommand(String userInput) {
+        try {
+            Command command = new Command(userInput);
+            router.handleRoute(command);
+        } catch (DuplicateArgumentFoundException e) {
+            ui.printError(Flags.Error.DUPLICATE_ARGUMENT_FOUND);
+        }
+    }
+}
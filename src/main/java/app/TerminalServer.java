@@ -0,0 +1,90 @@
+package app;
+
+import item.Menu;
+import order.Transaction;
+import ui.Ui;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The TerminalServer class lets several terminals at an outlet share one menu and one order list.
+ * It listens on a port of the local machine, and each connection is served by a TerminalSession
+ * on a thread of its own, which reads commands from the connection and prints their results back to it.
+ */
+public class TerminalServer {
+    public static final int DEFAULT_PORT = 6789;
+
+    private Menu menu;
+    private Transaction transactions;
+    private int port;
+    private ExecutorService sessionPool;
+
+    /**
+     * Constructs a TerminalServer. Sessions are run on a pool that grows with the number of connected terminals.
+     *
+     * @param menu         the menu shared by every terminal
+     * @param transactions the order list shared by every terminal
+     * @param port         the port to listen on, or 0 for any free port
+     */
+    public TerminalServer(Menu menu, Transaction transactions, int port) {
+        this.menu = menu;
+        this.transactions = transactions;
+        this.port = port;
+        this.sessionPool = Executors.newCachedThreadPool();
+    }
+
+    /**
+     * Accepts connections from terminals until the application is stopped.
+     *
+     * @throws IOException if the port cannot be listened on
+     */
+    public void run() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+            new Ui().printServerStarted(serverSocket.getLocalPort());
+            Ui.flushOutput();
+
+            while (true) {
+                Socket socket = serverSocket.accept();
+                sessionPool.execute(() -> serve(socket));
+            }
+        } finally {
+            sessionPool.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs a session for the terminal connected on the socket, and closes the connection once the session ends.
+     *
+     * @param socket the connection to the terminal
+     */
+    private void serve(Socket socket) {
+        try (socket;
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter writer = new PrintWriter(new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)))) {
+            Ui.setInput(reader);
+            Ui.setOutput(writer);
+
+            new TerminalSession(menu, transactions).run();
+            new Ui().printExit();
+            Ui.flushOutput();
+        } catch (IOException | NoSuchElementException e) {
+            // The terminal has disconnected, so there is no one left to report to
+        } finally {
+            Ui.resetStreams();
+        }
+    }
+}
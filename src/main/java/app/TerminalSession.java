@@ -0,0 +1,56 @@
+package app;
+
+import exception.DuplicateArgumentFoundException;
+import item.Menu;
+import order.Transaction;
+import ui.Flags;
+import ui.Ui;
+
+/**
+ * The TerminalSession class runs the commands entered at one terminal, one after another, until the user exits.
+ * The commands are read from the input of the current thread, so several sessions can run at the same time,
+ * sharing the same menu and order list.
+ */
+public class TerminalSession {
+    private Ui ui;
+    private Router router;
+
+    /**
+     * Constructs a TerminalSession with its own Router over the given menu and order list.
+     *
+     * @param menu         the menu used by the commands
+     * @param transactions the order list used by the commands
+     */
+    public TerminalSession(Menu menu, Transaction transactions) {
+        this.ui = new Ui();
+        this.router = new Router(menu, transactions);
+    }
+
+    /**
+     * Prompts the user for commands and passes each of them to the Router. The output of each command is written
+     * out once the command is done. Returns when the user types "exit", or when there is no more input.
+     */
+    public void run() {
+        ui.printWelcomeMessage();
+
+        while (true) {
+            try {
+                ui.promptUserInput();
+                String userInput = ui.readLine();
+
+                if (userInput == null || userInput.equals("exit")) {
+                    return;
+                }
+                if (!userInput.isBlank()) {
+                    Command command = new Command(userInput);
+                    router.handleRoute(command);
+                } else {
+                    Ui.getOutput().println("INPUT IS BLANK");
+                }
+            } catch (DuplicateArgumentFoundException e) {
+                ui.printError(Flags.Error.DUPLICATE_ARGUMENT_FOUND);
+            }
+            Ui.flushOutput();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package exception;
+
+/**
+ * Custom exception for a data file that fails its checksum
+ */
+public class FileIsCorruptedException extends Exception {
+}
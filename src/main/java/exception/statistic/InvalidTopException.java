@@ -0,0 +1,4 @@
+package exception.statistic;
+
+public class InvalidTopException extends Exception {
+}
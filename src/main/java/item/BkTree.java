@@ -0,0 +1,156 @@
+package item;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Locale;
+
+/**
+ * The BkTree class finds the menu items whose names are within a few typing mistakes of a search term.
+ * Names are kept in a Burkhard-Keller tree, where every child of a name is stored under its edit distance
+ * to that name. By the triangle inequality, a search only needs to go into the children whose distance
+ * is within the allowed number of mistakes of the distance between the search term and the name,
+ * so most names are never compared with the search term.
+ */
+class BkTree {
+
+    /**
+     * A name in the tree, with the indexes of the items that have the name.
+     */
+    private static class Node {
+        private final String name;
+        private final ArrayList<Integer> indexes;
+        private final HashMap<Integer, Node> children;
+
+        private Node(String name) {
+            this.name = name;
+            this.indexes = new ArrayList<>();
+            this.children = new HashMap<>();
+        }
+    }
+
+    private Node root;
+
+    /**
+     * Adds the name of the item at the given index to the tree.
+     *
+     * @param index the index of the item on the menu
+     * @param name  the name of the item
+     */
+    void add(int index, String name) {
+        String normalizedName = normalize(name);
+        if (root == null) {
+            root = new Node(normalizedName);
+        }
+
+        Node node = root;
+        int distance = editDistance(normalizedName, node.name);
+        while (distance != 0) {
+            Node child = node.children.get(distance);
+            if (child == null) {
+                child = new Node(normalizedName);
+                node.children.put(distance, child);
+            }
+            node = child;
+            distance = editDistance(normalizedName, node.name);
+        }
+        node.indexes.add(index);
+    }
+
+    /**
+     * Removes the name of the item at the given index from the tree.
+     * The name stays in the tree to keep the tree connected, but no longer matches any item.
+     *
+     * @param index the index of the item on the menu
+     * @param name  the name of the item
+     */
+    void remove(int index, String name) {
+        String normalizedName = normalize(name);
+        Node node = root;
+        while (node != null) {
+            int distance = editDistance(normalizedName, node.name);
+            if (distance == 0) {
+                node.indexes.remove(Integer.valueOf(index));
+                return;
+            }
+            node = node.children.get(distance);
+        }
+    }
+
+    /**
+     * Returns the indexes of the items whose names are within the given edit distance of the search term,
+     * ignoring case. The closest names come first, and items that are equally close are in index order.
+     *
+     * @param term        the search term
+     * @param maxDistance the largest number of inserted, deleted or changed characters allowed
+     * @return the indexes of the matching items
+     */
+    ArrayList<Integer> search(String term, int maxDistance) {
+        String normalizedTerm = normalize(term);
+        ArrayList<int[]> matches = new ArrayList<>();
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        if (root != null) {
+            nodesToVisit.push(root);
+        }
+
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            int distance = editDistance(normalizedTerm, node.name);
+            if (distance <= maxDistance) {
+                for (int index : node.indexes) {
+                    matches.add(new int[]{distance, index});
+                }
+            }
+            for (int childDistance = Math.max(1, distance - maxDistance);
+                    childDistance <= distance + maxDistance; childDistance++) {
+                Node child = node.children.get(childDistance);
+                if (child != null) {
+                    nodesToVisit.push(child);
+                }
+            }
+        }
+
+        matches.sort((first, second) -> first[0] != second[0]
+                ? Integer.compare(first[0], second[0])
+                : Integer.compare(first[1], second[1]));
+        ArrayList<Integer> indexes = new ArrayList<>();
+        for (int[] match : matches) {
+            indexes.add(match[1]);
+        }
+        return indexes;
+    }
+
+    /**
+     * Returns the Levenshtein distance between two strings, which is the number of characters
+     * that have to be inserted, deleted or changed to turn one into the other.
+     *
+     * @param first  the first string
+     * @param second the second string
+     * @return the edit distance between the strings
+     */
+    static int editDistance(String first, String second) {
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int cost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(Math.min(currentRow[j - 1] + 1, previousRow[j] + 1),
+                        previousRow[j - 1] + cost);
+            }
+            int[] row = previousRow;
+            previousRow = currentRow;
+            currentRow = row;
+        }
+        return previousRow[second.length()];
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,18 +1,66 @@
 package item;
 
+import com.google.gson.annotations.JsonAdapter;
+import utility.Money;
 
+@JsonAdapter(ItemAdapter.class)
 public class Item {
+    /**
+     * The ID of an item that has not been added to a menu yet.
+     */
+    public static final int NO_ID = 0;
+
+    private int id;
     private String name;
-    private double price;
+    private long priceInCents;
+    private boolean isRetired;
 
+    /**
+     * Constructs an item that has not been added to a menu yet.
+     *
+     * @param name         the name of the item
+     * @param priceInCents the price of the item in cents
+     */
+    public Item(String name, long priceInCents) {
+        this(NO_ID, name, priceInCents);
+        assert !name.equals("") : "Item name is empty";
+    }
+
+    /**
+     * Constructs an item with its price in dollars, rounded to the nearest cent.
+     *
+     * @param name  the name of the item
+     * @param price the price of the item in dollars
+     * @deprecated Prices are kept in cents; use {@link #Item(String, long)}. This is only kept for tests.
+     */
+    @Deprecated
     public Item(String name, Double price) {
+        this(name, Money.toCents(price));
+    }
+
+    /**
+     * Constructs an item with a known ID, such as an item read from a data file.
+     *
+     * @param id           the ID of the item, or NO_ID if it has none
+     * @param name         the name of the item
+     * @param priceInCents the price of the item in cents
+     */
+    public Item(int id, String name, long priceInCents) {
         assert name != null : "Item name is null";
-        assert !name.equals("") : "Item name is empty";
-        assert price != null : "Item price is null";
-        assert price >= 0.00 : "Item price is negative";
+        assert priceInCents >= 0 : "Item price is negative";
 
+        this.id = id;
         this.name = name;
-        this.price = price;
+        this.priceInCents = priceInCents;
+        this.isRetired = false;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    void setId(int id) {
+        this.id = id;
     }
 
     public String getName() {
@@ -24,11 +72,30 @@ public class Item {
     }
 
     public double getPrice() {
-        return price;
+        return Money.toDollars(priceInCents);
+    }
+
+    public long getPriceInCents() {
+        return priceInCents;
+    }
+
+    public void setPriceInCents(long priceInCents) {
+        assert priceInCents >= 0 : "Item price is negative";
+        this.priceInCents = priceInCents;
+    }
+
+    /**
+     * Returns whether the item has been deleted from the menu.
+     * Deleted items are kept so that past orders can still refer to them.
+     *
+     * @return true if the item is no longer on the menu
+     */
+    public boolean isRetired() {
+        return isRetired;
     }
 
-    public void setPrice(double price) {
-        this.price = price;
+    void setRetired(boolean isRetired) {
+        this.isRetired = isRetired;
     }
 
 
@@ -0,0 +1,78 @@
+package item;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import utility.Money;
+
+import java.io.IOException;
+
+/**
+ * This class converts an Item to and from JSON.
+ * The price is written as a whole number of cents. Data files written before prices were kept in cents
+ * hold the price in dollars instead, which is still read and rounded to the nearest cent.
+ * Items without an ID, written before items had IDs, are read with NO_ID and given an ID by the menu.
+ */
+public class ItemAdapter extends TypeAdapter<Item> {
+
+    @Override
+    public void write(JsonWriter writer, Item item) throws IOException {
+        if (item == null) {
+            writer.nullValue();
+            return;
+        }
+
+        writer.beginObject();
+        if (item.getId() != Item.NO_ID) {
+            writer.name("id").value(item.getId());
+        }
+        writer.name("name").value(item.getName());
+        writer.name("priceInCents").value(item.getPriceInCents());
+        if (item.isRetired()) {
+            writer.name("retired").value(true);
+        }
+        writer.endObject();
+    }
+
+    @Override
+    public Item read(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+
+        int id = Item.NO_ID;
+        String name = null;
+        long priceInCents = 0;
+        boolean isRetired = false;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "id":
+                id = reader.nextInt();
+                break;
+            case "name":
+                name = reader.nextString();
+                break;
+            case "priceInCents":
+                priceInCents = reader.nextLong();
+                break;
+            case "price":
+                priceInCents = Money.toCents(reader.nextDouble());
+                break;
+            case "retired":
+                isRetired = reader.nextBoolean();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        Item item = new Item(id, name, priceInCents);
+        item.setRetired(isRetired);
+        return item;
+    }
+}
@@ -2,15 +2,16 @@ package item;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Locale;
 
-import java.lang.reflect.Type;
 
 import exception.DuplicateArgumentFoundException;
+import exception.FileIsCorruptedException;
 import exception.FileIsEmptyException;
 import exception.UnrecognisedCommandException;
 import exception.item.MissingFindItemDescriptionException;
 import app.Command;
-import com.google.gson.reflect.TypeToken;
 import com.google.gson.JsonParseException;
 import exception.item.NameMinimumLengthException;
 import org.apache.commons.lang3.StringUtils;
@@ -18,6 +19,8 @@ import ui.Flags;
 import ui.MenuUi;
 import ui.StoreUi;
 import ui.Ui;
+import utility.Money;
+import utility.PersistenceService;
 import utility.Store;
 import validation.Validation;
 import validation.item.AddItemValidation;
@@ -25,29 +28,83 @@ import validation.item.DeleteItemValidation;
 import validation.item.FindItemValidation;
 import validation.item.UpdateItemValidation;
 
+/**
+ * The Menu class holds the items that can be ordered, and handles the commands that change or search them.
+ * Its public methods are synchronized, so that one menu can be shared by several terminals.
+ */
 public class Menu {
+    /**
+     * The largest number of similar items suggested when no item matches a name.
+     */
+    private static final int MAX_SUGGESTIONS = 5;
 
+    /**
+     * Every item, including items deleted from the menu, keyed by item ID.
+     */
+    private HashMap<Integer, Item> itemsById;
+
+    /**
+     * The IDs of the items on the menu, in the order they are displayed. The position of an item in this list
+     * is its index on the menu. A deleted item leaves NO_ID in its place, so that the index of every other item
+     * stays the same until the menu is loaded again.
+     */
+    private ArrayList<Integer> displayOrder;
+
+    /**
+     * The index of each item on the menu, keyed by its name in lower case.
+     * If several items have the same name, only one of them is indexed.
+     */
+    private HashMap<String, Integer> indexesByName;
+
+    /**
+     * The index of the items on the menu by the sequences of characters in their names, for substring searches.
+     */
+    private TrigramIndex nameGrams;
+
+    /**
+     * The names of the items on the menu, for finding names within a few typing mistakes of a search term.
+     */
+    private BkTree nameTree;
+
+    /**
+     * The items on the menu in display order, without deleted items, or null if it has to be built again.
+     */
     private ArrayList<Item> items;
+    private int nextItemId;
+
+    /**
+     * Whether the menu has changed since it was last saved, such as when items were given an ID
+     * or when saving is deferred.
+     */
+    private boolean hasUnsavedItems;
+
+    /**
+     * Whether saves are deferred until the menu is flushed, such as while a script is run.
+     */
+    private boolean isSaveDeferred;
     private Store store;
+
+    /**
+     * The task that writes out the menu, queued with the PersistenceService.
+     */
+    private final Runnable committer = this::commit;
     private MenuUi menuUi;
 
     public Menu(String fileName) {
         this.menuUi = new MenuUi();
         this.store = new Store(fileName);
-        Type type = new TypeToken<ArrayList<Item>>() {
-        }.getType();
-
         try {
-            this.items = store.load(type);
+            indexItems(store.loadList(Item.class));
+            saveNewItemIds();
         } catch (IOException e) {
             new StoreUi().menuNotFound();
-            this.items = new ArrayList<>();
+            indexItems(new ArrayList<>());
             save();
 
-        } catch (JsonParseException | NumberFormatException | FileIsEmptyException e) {
+        } catch (JsonParseException | NumberFormatException | FileIsEmptyException | FileIsCorruptedException e) {
 
             if (new StoreUi().reinitializeMenu()) {
-                this.items = new ArrayList<>();
+                indexItems(new ArrayList<>());
                 save();
             } else {
                 System.exit(0);
@@ -59,18 +116,58 @@ public class Menu {
     public Menu(String dirName, String fileName) {
         this.menuUi = new MenuUi();
         this.store = new Store(dirName, fileName);
-        Type type = new TypeToken<ArrayList<Item>>() {
-        }.getType();
-
         try {
-            this.items = store.load(type);
-        } catch (IOException | JsonParseException | NumberFormatException | FileIsEmptyException e) {
-            System.out.println(e.getMessage());
-            this.items = new ArrayList<>();
+            indexItems(store.loadList(Item.class));
+        } catch (IOException | JsonParseException | NumberFormatException | FileIsEmptyException
+                | FileIsCorruptedException e) {
+            Ui.getOutput().println(e.getMessage());
+            indexItems(new ArrayList<>());
         }
     }
 
-    public void displayList(Command command) {
+    /**
+     * Sets up the menu from the items loaded from the data file. Deleted items are set aside,
+     * and items saved before items had IDs are given one in the order they appear.
+     *
+     * @param loadedItems the items loaded from the data file
+     */
+    private void indexItems(ArrayList<Item> loadedItems) {
+        this.itemsById = new HashMap<>();
+        this.displayOrder = new ArrayList<>();
+        this.indexesByName = new HashMap<>();
+        this.nameGrams = new TrigramIndex();
+        this.nameTree = new BkTree();
+        this.items = null;
+        this.nextItemId = Item.NO_ID + 1;
+        this.hasUnsavedItems = false;
+
+        for (Item item : loadedItems) {
+            if (item.getId() != Item.NO_ID && !itemsById.containsKey(item.getId())) {
+                itemsById.put(item.getId(), item);
+                nextItemId = Math.max(nextItemId, item.getId() + 1);
+            }
+        }
+        for (Item item : loadedItems) {
+            if (itemsById.get(item.getId()) != item) {
+                assignId(item);
+            }
+            if (!item.isRetired()) {
+                indexesByName.putIfAbsent(normalizeName(item.getName()), displayOrder.size());
+                nameGrams.add(displayOrder.size(), item.getName());
+                nameTree.add(displayOrder.size(), item.getName());
+                displayOrder.add(item.getId());
+            }
+        }
+    }
+
+    private void assignId(Item item) {
+        item.setId(nextItemId);
+        nextItemId++;
+        itemsById.put(item.getId(), item);
+        hasUnsavedItems = true;
+    }
+
+    public synchronized void displayList(Command command) {
         try {
             Validation validation = new Validation();
             validation.validateNoArgumentCommand(command);
@@ -80,43 +177,307 @@ public class Menu {
             return;
         }
         MenuUi menuUi = new MenuUi();
-        if (this.items.size() != 0) {
-            menuUi.printMenu(items);
+        if (this.getItems().size() != 0) {
+            menuUi.printMenu(this);
             menuUi.printCommandSuccess(command.getCommand());
         } else {
             menuUi.printError(Flags.Error.EMPTY_MENU);
         }
     }
 
-    public void appendItem(Item item) {
-        this.items.add(item);
+    /**
+     * Adds an item to the end of the menu, giving it an ID if it does not have one.
+     *
+     * @param item the item to add
+     */
+    public synchronized void appendItem(Item item) {
+        if (item.getId() == Item.NO_ID || itemsById.get(item.getId()) != item) {
+            assignId(item);
+        }
+        this.indexesByName.putIfAbsent(normalizeName(item.getName()), displayOrder.size());
+        this.nameGrams.add(displayOrder.size(), item.getName());
+        this.nameTree.add(displayOrder.size(), item.getName());
+        this.displayOrder.add(item.getId());
+        this.items = null;
     }
 
-    public void removeItem(int index) {
-        this.items.remove(index);
+    /**
+     * Removes the item at the given index from the menu. The item keeps its ID and is kept
+     * as a deleted item, so that past orders can still refer to it.
+     * The indexes of the other items on the menu do not change.
+     *
+     * @param index the index of the item on the menu
+     */
+    public synchronized void removeItem(int index) {
+        Item item = getItem(index);
+        item.setRetired(true);
+        this.nameGrams.remove(index, item.getName());
+        this.nameTree.remove(index, item.getName());
+        this.unindexName(index, item.getName());
+        this.displayOrder.set(index, Item.NO_ID);
+        this.items = null;
+
+        int lastIndex = displayOrder.size() - 1;
+        while (lastIndex >= 0 && displayOrder.get(lastIndex) == Item.NO_ID) {
+            displayOrder.remove(lastIndex);
+            lastIndex--;
+        }
     }
 
-    public ArrayList<Item> getItems() {
+    /**
+     * Returns the items on the menu in display order. Deleted items are left out, so the position of an item
+     * in the list is not its index on the menu. To go through the menu by index, loop up to
+     * {@link #getIndexCount()} and skip the indexes for which {@link #hasItem(int)} is false.
+     *
+     * @return the items on the menu
+     */
+    public synchronized ArrayList<Item> getItems() {
+        if (items == null) {
+            items = new ArrayList<>();
+            for (int id : displayOrder) {
+                if (id != Item.NO_ID) {
+                    items.add(itemsById.get(id));
+                }
+            }
+        }
         return items;
     }
 
-    public Item getItem(int index) {
-        return items.get(index);
+    /**
+     * Returns the item at the given index on the menu.
+     *
+     * @param index the index of the item on the menu
+     * @return the item at the index
+     * @throws IndexOutOfBoundsException if there is no item at the index, or the item there was deleted
+     */
+    public synchronized Item getItem(int index) {
+        int id = displayOrder.get(index);
+        if (id == Item.NO_ID) {
+            throw new IndexOutOfBoundsException("Item " + index + " has been deleted");
+        }
+        return itemsById.get(id);
+    }
+
+    /**
+     * Checks whether there is an item at the given index on the menu.
+     *
+     * @param index the index of the item on the menu
+     * @return true if there is an item at the index
+     */
+    public synchronized boolean hasItem(int index) {
+        return index >= 0 && index < displayOrder.size() && displayOrder.get(index) != Item.NO_ID;
+    }
+
+    /**
+     * Finds the indexes of the items on the menu whose names are close to the given name, ignoring case,
+     * for when no item matches it. A name of up to 7 characters may be 1 character off, and every
+     * 4 more characters allow 1 more mistake, up to 3.
+     *
+     * @param itemName the name that may be mistyped
+     * @return the indexes of at most MAX_SUGGESTIONS items, closest first
+     */
+    public synchronized ArrayList<Integer> findSimilarItemIndexes(String itemName) {
+        String name = itemName.replace("\"", "").trim();
+        int maxDistance = Math.min(3, Math.max(1, name.length() / 4));
+
+        ArrayList<Integer> indexes = nameTree.search(name, maxDistance);
+        if (indexes.size() > MAX_SUGGESTIONS) {
+            return new ArrayList<>(indexes.subList(0, MAX_SUGGESTIONS));
+        }
+        return indexes;
+    }
+
+    /**
+     * Displays the items on the menu whose names are close to the given name, if there are any.
+     *
+     * @param itemName the name that may be mistyped
+     * @return true if any similar item was displayed
+     */
+    public synchronized boolean showSimilarItems(String itemName) {
+        ArrayList<Integer> indexes = findSimilarItemIndexes(itemName);
+        if (indexes.isEmpty()) {
+            return false;
+        }
+
+        menuUi.printSimilarItems();
+        menuUi.printMenuHeader();
+        for (int index : indexes) {
+            menuUi.printFindItem(index, getItem(index));
+        }
+        return true;
+    }
+
+    /**
+     * Changes the name of the item at the given index on the menu.
+     *
+     * @param index the index of the item on the menu
+     * @param name  the new name of the item
+     */
+    public synchronized void renameItem(int index, String name) {
+        Item item = getItem(index);
+        nameGrams.remove(index, item.getName());
+        nameTree.remove(index, item.getName());
+        unindexName(index, item.getName());
+        item.setName(name);
+        indexesByName.putIfAbsent(normalizeName(name), index);
+        nameGrams.add(index, name);
+        nameTree.add(index, name);
+    }
+
+    /**
+     * Finds the indexes of all items on the menu whose names contain the search term, case-insensitively.
+     * Search terms shorter than three characters are checked against every item,
+     * and longer terms are only checked against the items found through the trigram index.
+     *
+     * @param searchTerm the text to search for
+     * @return the indexes of the matching items, in increasing order
+     */
+    public synchronized ArrayList<Integer> findItemIndexesContaining(String searchTerm) {
+        ArrayList<Integer> indexes = new ArrayList<>();
+        if (searchTerm.length() < TrigramIndex.GRAM_LENGTH) {
+            for (int i = 0; i < getIndexCount(); i++) {
+                if (hasItem(i) && StringUtils.containsIgnoreCase(getItem(i).getName(), searchTerm)) {
+                    indexes.add(i);
+                }
+            }
+            return indexes;
+        }
+
+        for (int index : nameGrams.findCandidates(searchTerm)) {
+            if (hasItem(index) && StringUtils.containsIgnoreCase(getItem(index).getName(), searchTerm)) {
+                indexes.add(index);
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Returns the index of the item with the given name, ignoring case.
+     *
+     * @param name the name of the item
+     * @return the index of the item, or -1 if no item on the menu has the name
+     */
+    public synchronized int findExactItemIndex(String name) {
+        return indexesByName.getOrDefault(normalizeName(name), -1);
+    }
+
+    /**
+     * Checks whether an item on the menu has the given name, ignoring case.
+     *
+     * @param name the name to check
+     * @return true if an item on the menu has the name
+     */
+    public synchronized boolean hasItemNamed(String name) {
+        return indexesByName.containsKey(normalizeName(name));
+    }
+
+    /**
+     * Returns the number of indexes on the menu, including the indexes of deleted items.
+     *
+     * @return one more than the largest index on the menu
+     */
+    public synchronized int getIndexCount() {
+        return displayOrder.size();
+    }
+
+    /**
+     * Returns the item with the given ID, including items that have been deleted from the menu.
+     *
+     * @param id the ID of the item
+     * @return the item, or null if no item has the ID
+     */
+    public synchronized Item getItemById(int id) {
+        return itemsById.get(id);
+    }
+
+    /**
+     * Finds the item that an order entry refers to. The entry keeps the price the item was sold at,
+     * so the item found may have a different price now.
+     * An entry without an ID is matched by name, first to the items on the menu, ignoring case,
+     * and then to deleted items.
+     * If no item matches, a deleted item is added with the name and price of the entry,
+     * so that every order entry refers to an item on the menu or a deleted item.
+     *
+     * @param id           the ID in the order entry, or Item.NO_ID if it has none
+     * @param name         the name of the item in the order entry, or null if it was not saved with the entry
+     * @param priceInCents the price of the item in the order entry, in cents
+     * @return the item that the order entry refers to
+     */
+    public synchronized Item resolveItem(int id, String name, long priceInCents) {
+        Item item = itemsById.get(id);
+        if (item != null) {
+            return item;
+        }
+
+        if (id == Item.NO_ID && name != null) {
+            int index = findExactItemIndex(name);
+            if (index != -1) {
+                return getItem(index);
+            }
+            item = findRetiredItem(name);
+            if (item != null) {
+                return item;
+            }
+        }
+
+        item = new Item(id, name == null ? "Item #" + id : name, priceInCents);
+        item.setRetired(true);
+        if (id == Item.NO_ID) {
+            assignId(item);
+        } else {
+            itemsById.put(id, item);
+            nextItemId = Math.max(nextItemId, id + 1);
+            hasUnsavedItems = true;
+        }
+        return item;
+    }
+
+    /**
+     * Removes the name of the item at the given index from indexesByName. If another item on the menu has
+     * the same name, such as when a menu file has names that differ only in case, that item is indexed instead.
+     * The item must already have been removed from nameTree.
+     *
+     * @param index the index of the item on the menu
+     * @param name  the name of the item
+     */
+    private void unindexName(int index, String name) {
+        String normalizedName = normalizeName(name);
+        if (!indexesByName.remove(normalizedName, index)) {
+            return;
+        }
+        ArrayList<Integer> sameNameIndexes = nameTree.search(name, 0);
+        if (!sameNameIndexes.isEmpty()) {
+            indexesByName.put(normalizedName, sameNameIndexes.get(0));
+        }
+    }
+
+    private static String normalizeName(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private Item findRetiredItem(String name) {
+        for (Item item : itemsById.values()) {
+            if (item.isRetired() && item.getName().equals(name)) {
+                return item;
+            }
+        }
+        return null;
     }
 
     /**
      * Validates the add item command and calls processAddItem if command is valid
      *
      * @param command the Command object containing the search term
+     * @return true if the item was added
      */
-    public void addItem(Command command) throws DuplicateArgumentFoundException {
+    public synchronized boolean addItem(Command command) throws DuplicateArgumentFoundException {
 
         AddItemValidation addItemValidation = new AddItemValidation();
         boolean isValid = true;
 
         isValid = addItemValidation.validateFlags(command);
         if (!isValid) {
-            return;
+            return false;
         }
 
         command.mapArgumentAlias(addItemValidation.LONG_NAME_FLAG, addItemValidation.SHORT_NAME_FLAG);
@@ -124,7 +485,7 @@ public class Menu {
 
         isValid = addItemValidation.validateCommand(command, this);
         if (!isValid) {
-            return;
+            return false;
         }
 
         if (command.getArgumentMap().containsKey(addItemValidation.SHORT_NAME_FLAG)) {
@@ -139,14 +500,15 @@ public class Menu {
 
         processAddItem(command, addItemValidation);
         menuUi.printCommandSuccess(command.getCommand());
+        return true;
     }
 
     private void processAddItem(Command command, AddItemValidation addItemValidation) {
         String name = command.getArgumentMap().get(addItemValidation.LONG_NAME_FLAG);
-        Double price = Double.valueOf(command.getArgumentMap().get(addItemValidation.LONG_PRICE_FLAG));
-        Item item = new Item(name, price);
+        long priceInCents = Money.parseCents(command.getArgumentMap().get(addItemValidation.LONG_PRICE_FLAG));
+        Item item = new Item(name, priceInCents);
         appendItem(item);
-        assert this.getItem(this.getItems().size() - 1).getName().equals(item.getName())
+        assert this.getItem(this.getIndexCount() - 1).getName().equals(item.getName())
                 : "Item failed to append";
         save();
     }
@@ -155,11 +517,12 @@ public class Menu {
      * Updates a specified item on the menu by its given index.
      *
      * @param command the Command object containing the search term
+     * @return true if the item was updated
      */
-    public void updateItem(Command command) throws DuplicateArgumentFoundException {
+    public synchronized boolean updateItem(Command command) throws DuplicateArgumentFoundException {
         if (this.getItems().size() == 0) {
             menuUi.printError(Flags.Error.EMPTY_MENU);
-            return;
+            return false;
         }
 
         UpdateItemValidation updateItemValidation = new UpdateItemValidation();
@@ -167,7 +530,7 @@ public class Menu {
 
         isValid = updateItemValidation.validateFlags(command);
         if (!isValid) {
-            return;
+            return false;
         }
         command.mapArgumentAlias(updateItemValidation.LONG_INDEX_FLAG, updateItemValidation.SHORT_INDEX_FLAG);
         command.mapArgumentAlias(updateItemValidation.LONG_NAME_FLAG, updateItemValidation.SHORT_NAME_FLAG);
@@ -175,7 +538,7 @@ public class Menu {
 
         isValid = updateItemValidation.validateCommand(command, this);
         if (!isValid) {
-            return;
+            return false;
         }
 
         if (command.getArgumentMap().containsKey(updateItemValidation.SHORT_NAME_FLAG)) {
@@ -190,20 +553,21 @@ public class Menu {
 
         processUpdateItem(command, updateItemValidation);
         menuUi.printCommandSuccess(command.getCommand());
-
+        return true;
     }
 
     private void processUpdateItem(Command command, UpdateItemValidation updateItemValidation) {
         int index = Integer.parseInt(command.getArgumentMap().get(updateItemValidation.LONG_INDEX_FLAG));
 
         if (command.getArgumentMap().containsKey(updateItemValidation.LONG_NAME_FLAG)) {
-            this.getItem(index).setName(command.getArgumentMap().get(updateItemValidation.LONG_NAME_FLAG));
+            renameItem(index, command.getArgumentMap().get(updateItemValidation.LONG_NAME_FLAG));
 
         }
 
         if (command.getArgumentMap().containsKey(updateItemValidation.LONG_PRICE_FLAG)) {
-            Double price = Double.valueOf(command.getArgumentMap().get(updateItemValidation.LONG_PRICE_FLAG));
-            this.getItem(index).setPrice(price);
+            long priceInCents = Money.parseCents(
+                    command.getArgumentMap().get(updateItemValidation.LONG_PRICE_FLAG));
+            this.getItem(index).setPriceInCents(priceInCents);
         }
         save();
     }
@@ -212,11 +576,12 @@ public class Menu {
      * Deletes a specified item on the menu by its given index.
      *
      * @param command the Command object containing the search term
+     * @return true if the item was deleted
      */
-    public void deleteItem(Command command) throws DuplicateArgumentFoundException {
+    public synchronized boolean deleteItem(Command command) throws DuplicateArgumentFoundException {
         if (this.getItems().size() == 0) {
             menuUi.printError(Flags.Error.EMPTY_MENU);
-            return;
+            return false;
         }
 
         DeleteItemValidation deleteItemValidation = new DeleteItemValidation();
@@ -224,16 +589,17 @@ public class Menu {
 
         isValid = deleteItemValidation.validateFlags(command);
         if (!isValid) {
-            return;
+            return false;
         }
         command.mapArgumentAlias(deleteItemValidation.LONG_INDEX_FLAG, deleteItemValidation.SHORT_INDEX_FLAG);
         isValid = deleteItemValidation.validateCommand(command, this);
         if (!isValid) {
-            return;
+            return false;
         }
 
         processDeleteItem(command, deleteItemValidation);
         menuUi.printCommandSuccess(command.getCommand());
+        return true;
     }
 
     private void processDeleteItem(Command command, DeleteItemValidation deleteItemValidation) {
@@ -243,28 +609,27 @@ public class Menu {
     }
 
     /**
-     * Finds the index of the first item in the provided ArrayList of Item objects
-     * whose name contains the specified itemName, case-insensitively.
+     * Finds the index of the item whose name is the specified itemName, case-insensitively.
+     * If there is no such item, finds the index of the first item whose name contains the itemName.
      *
      * @param itemName the name of the item to search for, case-insensitively
      * @return the index of the first matching item if found, or -1 if no matching item is found
      */
-    public int findItemIndex(String itemName) {
+    public synchronized int findItemIndex(String itemName) {
 
-        ArrayList<Item> menu = this.getItems();
         itemName = itemName.toLowerCase();
 
         if (itemName.contains("\"")) {
             itemName = itemName.replace("\"", "");
         }
 
-        for (int i = 0; i < menu.size(); i++) {
-            if (menu.get(i).getName().toLowerCase().contains(itemName)) {
-                return i;
-            }
+        int exactIndex = findExactItemIndex(itemName);
+        if (exactIndex != -1) {
+            return exactIndex;
         }
 
-        return -1;
+        ArrayList<Integer> indexes = findItemIndexesContaining(itemName);
+        return indexes.isEmpty() ? -1 : indexes.get(0);
 
     }
 
@@ -276,24 +641,16 @@ public class Menu {
      * @param itemName the name of the item to search for, case-insensitively
      * @return an ArrayList of integers containing the indexes of all matching items, or empty if no result
      */
-    public ArrayList<Integer> findMatchingItemNames(String itemName) {
+    public synchronized ArrayList<Integer> findMatchingItemNames(String itemName) {
 
         ArrayList<Integer> itemIndexes = new ArrayList<>();
-        ArrayList<Item> menu = this.getItems();
-        itemName = itemName.toLowerCase();
-
-        for (int i = 0; i < menu.size(); i++) {
-            if (menu.get(i).getName().toLowerCase().contains(itemName)) {
-                if (itemName.equals(menu.get(i).getName().toLowerCase())) {
-                    itemIndexes.removeAll(itemIndexes);
-                    itemIndexes.add(i);
-                    break;
-                }
-                itemIndexes.add(i);
-            }
+        int exactIndex = findExactItemIndex(itemName);
+        if (exactIndex != -1) {
+            itemIndexes.add(exactIndex);
+            return itemIndexes;
         }
 
-        return itemIndexes;
+        return findItemIndexesContaining(itemName);
     }
 
     /**
@@ -303,13 +660,10 @@ public class Menu {
      *
      * @param command the Command object containing the search term
      */
-    public void showResultsOfFind(Command command) {
+    public synchronized void showResultsOfFind(Command command) {
 
         FindItemValidation findItemValidation = new FindItemValidation();
 
-        ArrayList<Item> menu = this.getItems();
-        ArrayList<Integer> indexes = new ArrayList<>();
-
         String itemName = command.getArgumentString().trim();
 
         if (itemName.contains("\"")) {
@@ -326,20 +680,17 @@ public class Menu {
             return;
         }
 
-        for (int i = 0; i < menu.size(); i++) {
-            if (StringUtils.containsIgnoreCase(menu.get(i).getName(), itemName)) {
-                indexes.add(i);
-            }
-        }
+        ArrayList<Integer> indexes = findItemIndexesContaining(itemName);
 
         if (indexes.size() == 0) {
             menuUi.printNoItemFound(itemName);
+            showSimilarItems(itemName);
             return;
         }
 
         menuUi.printMenuHeader();
         for (int i = 0; i < indexes.size(); i++) {
-            menuUi.printFindItem(indexes.get(i), menu);
+            menuUi.printFindItem(indexes.get(i), getItem(indexes.get(i)));
         }
 
         menuUi.printCommandSuccess(command.getCommand());
@@ -351,13 +702,10 @@ public class Menu {
      *
      * @param command the Command object containing the search term
      */
-    public void showResultsOfFindWithoutSuccessMsg(Command command) {
+    public synchronized void showResultsOfFindWithoutSuccessMsg(Command command) {
 
         FindItemValidation findItemValidation = new FindItemValidation();
 
-        ArrayList<Item> menu = this.getItems();
-        ArrayList<Integer> indexes = new ArrayList<>();
-
         String itemName = command.getArgumentString().trim();
 
         try {
@@ -374,30 +722,99 @@ public class Menu {
             itemName = itemName.replace("\"", "");
         }
 
-        for (int i = 0; i < menu.size(); i++) {
-            if (StringUtils.containsIgnoreCase(menu.get(i).getName(), itemName)) {
-                indexes.add(i);
-            }
-        }
+        ArrayList<Integer> indexes = findItemIndexesContaining(itemName);
 
         if (indexes.size() == 0) {
             menuUi.printNoItemFound(itemName);
+            showSimilarItems(itemName);
             return;
         }
 
         menuUi.printMenuHeader();
         for (int i = 0; i < indexes.size(); i++) {
-            menuUi.printFindItem(indexes.get(i), menu);
+            menuUi.printFindItem(indexes.get(i), getItem(indexes.get(i)));
         }
 
     }
 
 
-    public void save() {
+    /**
+     * Saves the menu if items were given an ID since it was last saved.
+     */
+    public synchronized void saveNewItemIds() {
+        if (hasUnsavedItems) {
+            save();
+        }
+    }
+
+    /**
+     * Sets whether saves are deferred. While they are deferred, changes are only saved when the menu is flushed.
+     * Any deferred changes are saved once saves are no longer deferred.
+     *
+     * @param isSaveDeferred true to defer saves until the menu is flushed
+     */
+    public synchronized void setSaveDeferred(boolean isSaveDeferred) {
+        this.isSaveDeferred = isSaveDeferred;
+        if (!isSaveDeferred) {
+            flush();
+        }
+    }
+
+    /**
+     * Saves the menu if it has changed since it was last saved, even if saves are deferred.
+     */
+    public synchronized void flush() {
+        if (hasUnsavedItems) {
+            PersistenceService.getService().submit(committer);
+        }
+    }
+
+    /**
+     * Saves the menu, unless saves are deferred.
+     */
+    public synchronized void save() {
+        hasUnsavedItems = true;
+        if (!isSaveDeferred) {
+            PersistenceService.getService().submit(committer);
+        }
+    }
+
+    /**
+     * Writes out the menu if it has changed since it was last written, including deleted items.
+     * The items are copied while holding the lock and written after letting go of it,
+     * so that other terminals do not wait on the storage device.
+     */
+    private void commit() {
+        ArrayList<Item> allItems = new ArrayList<>();
+        synchronized (this) {
+            if (!hasUnsavedItems) {
+                return;
+            }
+            for (Item item : getItems()) {
+                allItems.add(copyOf(item));
+            }
+            for (Item item : itemsById.values()) {
+                if (item.isRetired()) {
+                    allItems.add(copyOf(item));
+                }
+            }
+            hasUnsavedItems = false;
+        }
+
         try {
-            store.save(items);
+            store.save(allItems);
         } catch (IOException e) {
-            System.out.println(e.getMessage());
+            Ui.getOutput().println(e.getMessage());
+            PersistenceService.getService().reportFailure(e);
+            synchronized (this) {
+                hasUnsavedItems = true;
+            }
         }
     }
+
+    private static Item copyOf(Item item) {
+        Item copy = new Item(item.getId(), item.getName(), item.getPriceInCents());
+        copy.setRetired(item.isRetired());
+        return copy;
+    }
 }
@@ -15,6 +15,7 @@ import exception.item.IndexOverflowException;
 import exception.item.IndexOutOfBoundException;
 import ui.Flags;
 import ui.MenuAssistantUi;
+import utility.Money;
 import validation.item.AddItemValidation;
 import validation.item.DeleteItemValidation;
 
@@ -200,8 +201,8 @@ public class MenuAssistant {
         }
 
         String name = command.getArgumentMap().get(addItemValidation.LONG_NAME_FLAG);
-        Double price = Double.valueOf(command.getArgumentMap().get(addItemValidation.LONG_PRICE_FLAG));
-        Item item = new Item(name, price);
+        long priceInCents = Money.parseCents(command.getArgumentMap().get(addItemValidation.LONG_PRICE_FLAG));
+        Item item = new Item(name, priceInCents);
         menu.appendItem(item);
         menu.save();
         return false;
@@ -282,12 +283,12 @@ public class MenuAssistant {
 
         if(toUpdateName.equals(YES)) {
             String name = command.getArgumentMap().get(addItemValidation.LONG_NAME_FLAG);
-            menu.getItem(index).setName(name);
+            menu.renameItem(index, name);
         }
 
         if(toUpdatePrice.equals(YES)) {
-            Double price = Double.valueOf(command.getArgumentMap().get(addItemValidation.LONG_PRICE_FLAG));
-            menu.getItem(index).setPrice(price);
+            long priceInCents = Money.parseCents(command.getArgumentMap().get(addItemValidation.LONG_PRICE_FLAG));
+            menu.getItem(index).setPriceInCents(priceInCents);
         }
 
         menu.save();
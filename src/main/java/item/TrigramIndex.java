@@ -0,0 +1,118 @@
+package item;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The TrigramIndex class finds the menu items whose names contain a search term.
+ * Every sequence of three characters in an item name is mapped to the sorted indexes of the items
+ * whose names contain it. A search term of at least three characters is looked up by intersecting
+ * the index lists of its sequences, which gives the items that may contain the term.
+ */
+class TrigramIndex {
+    static final int GRAM_LENGTH = 3;
+
+    private HashMap<String, ArrayList<Integer>> postings;
+
+    TrigramIndex() {
+        this.postings = new HashMap<>();
+    }
+
+    /**
+     * Adds the name of the item at the given index to the index.
+     *
+     * @param index the index of the item on the menu
+     * @param name  the name of the item
+     */
+    void add(int index, String name) {
+        for (String gram : toGrams(name)) {
+            ArrayList<Integer> indexes = postings.computeIfAbsent(gram, key -> new ArrayList<>());
+            int position = Collections.binarySearch(indexes, index);
+            if (position < 0) {
+                indexes.add(-position - 1, index);
+            }
+        }
+    }
+
+    /**
+     * Removes the name of the item at the given index from the index.
+     *
+     * @param index the index of the item on the menu
+     * @param name  the name of the item
+     */
+    void remove(int index, String name) {
+        for (String gram : toGrams(name)) {
+            ArrayList<Integer> indexes = postings.get(gram);
+            if (indexes == null) {
+                continue;
+            }
+            int position = Collections.binarySearch(indexes, index);
+            if (position >= 0) {
+                indexes.remove(position);
+            }
+            if (indexes.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the indexes of the items whose names may contain the search term, in increasing order.
+     * Every item whose name contains the term is returned, but the caller has to check each name,
+     * since a name can contain every sequence of the term without containing the term itself.
+     *
+     * @param term the search term, which must be at least GRAM_LENGTH characters long
+     * @return the indexes of the candidate items
+     */
+    ArrayList<Integer> findCandidates(String term) {
+        assert term.length() >= GRAM_LENGTH : "Search term is too short for the index";
+
+        ArrayList<ArrayList<Integer>> lists = new ArrayList<>();
+        for (String gram : toGrams(term)) {
+            ArrayList<Integer> indexes = postings.get(gram);
+            if (indexes == null) {
+                return new ArrayList<>();
+            }
+            lists.add(indexes);
+        }
+        lists.sort((first, second) -> Integer.compare(first.size(), second.size()));
+
+        ArrayList<Integer> candidates = new ArrayList<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates = intersect(candidates, lists.get(i));
+        }
+        return candidates;
+    }
+
+    private static ArrayList<Integer> intersect(ArrayList<Integer> first, ArrayList<Integer> second) {
+        ArrayList<Integer> result = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < first.size() && j < second.size()) {
+            int comparison = Integer.compare(first.get(i), second.get(j));
+            if (comparison == 0) {
+                result.add(first.get(i));
+                i++;
+                j++;
+            } else if (comparison < 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return result;
+    }
+
+    private static Set<String> toGrams(String text) {
+        String lowerCaseText = text.toLowerCase(Locale.ROOT);
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseText.length(); i++) {
+            grams.add(lowerCaseText.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
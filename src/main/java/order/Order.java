@@ -21,6 +21,7 @@ import item.Menu;
 import payment.Payment;
 import ui.Flags;
 import ui.TransactionUi;
+import utility.Money;
 import validation.order.AddMultipleAddOrderValidation;
 import validation.order.AddOrderValidation;
 
@@ -30,13 +31,30 @@ import java.util.ArrayList;
 import java.util.UUID;
 
 public class Order implements ComputeOrder {
+    /**
+     * The value of the cached totals before they are computed,
+     * such as for orders saved before the totals were kept with the order.
+     */
+    private static final long TOTALS_NOT_COMPUTED = -1;
 
     private String orderId;
     private LocalDateTime dateTime;
     private ArrayList<OrderEntry> orderEntries;
-    private String status;
+
+    /**
+     * The status of the order, which can be changed by a refund while a report is reading the order.
+     */
+    private volatile String status;
     private String paymentType;
 
+    /**
+     * The subtotal, number of entries and number of items of the order, computed from the order entries
+     * and saved with the order so that they do not need to be computed again.
+     */
+    private long subTotalInCents;
+    private int lineCount;
+    private int itemCount;
+
 
     /**
      * Constructs an Order object with a unique ID
@@ -51,6 +69,7 @@ public class Order implements ComputeOrder {
         this.dateTime = LocalDateTime.now();
         this.orderEntries = new ArrayList<>();
         this.paymentType = "";
+        this.subTotalInCents = TOTALS_NOT_COMPUTED;
     }
 
     /**
@@ -67,6 +86,7 @@ public class Order implements ComputeOrder {
         this.dateTime = LocalDateTime.now();
         this.orderEntries = new ArrayList<>();
         this.paymentType = "";
+        this.subTotalInCents = TOTALS_NOT_COMPUTED;
         if (this.addOrder(command, menu, transactionUi)) {
             transactionUi.printOrderAdded(this.getSubTotal());
             payment.makePayment(this);
@@ -89,6 +109,27 @@ public class Order implements ComputeOrder {
         this.dateTime = LocalDateTime.now();
         this.orderEntries = orderEntries;
         this.paymentType = "";
+        this.subTotalInCents = TOTALS_NOT_COMPUTED;
+    }
+
+    /**
+     * Constructs an Order read from a data file, and computes its totals from its entries.
+     *
+     * @param orderId      the unique ID of the order
+     * @param dateTime     the date and time the order was made
+     * @param orderEntries the entries of the order
+     * @param status       the status of the order
+     * @param paymentType  the payment type of the order
+     */
+    Order(String orderId, LocalDateTime dateTime, ArrayList<OrderEntry> orderEntries, String status,
+          String paymentType) {
+        this.orderId = orderId;
+        this.dateTime = dateTime;
+        this.orderEntries = orderEntries;
+        this.status = status;
+        this.paymentType = paymentType;
+        this.subTotalInCents = TOTALS_NOT_COMPUTED;
+        computeTotals();
     }
 
     /**
@@ -109,6 +150,10 @@ public class Order implements ComputeOrder {
         this.paymentType = paymentType;
     }
 
+    public String getPaymentType() {
+        return paymentType;
+    }
+
     /**
      * Gets the date and time of the Order in the format
      * yyyy-MM-dd HH:mm:ss.
@@ -144,15 +189,69 @@ public class Order implements ComputeOrder {
      */
     @Override
     public double getSubTotal() {
+        return Money.toDollars(getSubTotalInCents());
+    }
+
+    /**
+     * Returns the subtotal of the Order in cents.
+     *
+     * @return long subtotal in cents
+     */
+    public long getSubTotalInCents() {
+        computeTotals();
+        return subTotalInCents;
+    }
 
-        double subtotal = 0;
+    /**
+     * Returns the number of entries in the Order.
+     *
+     * @return int number of entries
+     */
+    public int getLineCount() {
+        computeTotals();
+        return lineCount;
+    }
+
+    /**
+     * Returns the total quantity of items in the Order.
+     *
+     * @return int number of items
+     */
+    public int getItemCount() {
+        computeTotals();
+        return itemCount;
+    }
+
+    /**
+     * Computes the subtotal, number of entries and number of items of the Order,
+     * unless they have been computed since the order entries last changed.
+     */
+    void computeTotals() {
+        if (subTotalInCents != TOTALS_NOT_COMPUTED) {
+            return;
+        }
+
+        long subtotal = 0;
+        int items = 0;
 
         for (OrderEntry i : this.orderEntries) {
-            subtotal += (i.getQuantity() * i.getItem().getPrice());
+            subtotal += i.getTotalInCents();
+            items += i.getQuantity();
         }
 
-        return subtotal;
+        this.lineCount = this.orderEntries.size();
+        this.itemCount = items;
+        this.subTotalInCents = subtotal;
+    }
 
+    /**
+     * Adds an entry to the Order, and clears the cached totals.
+     *
+     * @param orderEntry the entry to add
+     */
+    private void addOrderEntry(OrderEntry orderEntry) {
+        this.orderEntries.add(orderEntry);
+        this.subTotalInCents = TOTALS_NOT_COMPUTED;
     }
 
     /**
@@ -164,9 +263,9 @@ public class Order implements ComputeOrder {
     public boolean addOrder(Command command, Menu listOfItems, TransactionUi transactionUi)
             throws DuplicateArgumentFoundException {
         boolean isAdded = false;
+        AddMultipleAddOrderValidation addMultipleOrderValidation = new AddMultipleAddOrderValidation(listOfItems);
         try {
             AddOrderValidation addOrderValidation = new AddOrderValidation(listOfItems);
-            AddMultipleAddOrderValidation addMultipleOrderValidation = new AddMultipleAddOrderValidation(listOfItems);
 
             command.mapArgumentAlias("item", "i");
             command.mapArgumentAlias("items", "I");
@@ -180,9 +279,7 @@ public class Order implements ComputeOrder {
                 addSingleOrder(command, listOfItems, transactionUi);
                 isAdded = true;
             } else if (command.getArgumentMap().get("items") != null) {
-                command = addMultipleOrderValidation.validateFormat(command);
-                addMultipleOrderValidation.validateArguments(command, listOfItems);
-                handleMultipleAddOrders(command, listOfItems, transactionUi);
+                handleMultipleAddOrders(addMultipleOrderValidation.validateOrderEntries(command));
                 isAdded = true;
             } else {
                 addOrderValidation.validateFlag(command);
@@ -214,6 +311,11 @@ public class Order implements ComputeOrder {
             // Error message is already printed in a separate handler
         } catch (NoSuchItemException e) {
             transactionUi.printError(Flags.Error.NO_SUCH_ITEM);
+            listOfItems.showSimilarItems(command.getArgumentMap().get("item"));
+        }
+
+        if (addMultipleOrderValidation.hasErrorPosition()) {
+            transactionUi.printErrorPosition(command.getUserInput(), addMultipleOrderValidation.getErrorPosition());
         }
         return isAdded;
     }
@@ -234,8 +336,8 @@ public class Order implements ComputeOrder {
         int itemIndex = handleOrderIndex(command);
         int quantity = handleQuantity(command);
 
-        OrderEntry orderEntry = new OrderEntry(listOfItems.getItems().get(itemIndex), quantity);
-        this.orderEntries.add(orderEntry);
+        OrderEntry orderEntry = new OrderEntry(listOfItems.getItem(itemIndex), quantity);
+        addOrderEntry(orderEntry);
     }
 
     /**
@@ -277,32 +379,11 @@ public class Order implements ComputeOrder {
     /**
      * Adds multiple item orders to the current order instance
      *
-     * @param command     the command object containing the user input
-     * @param listOfItems the list of items from which the items are selected
+     * @param orderEntries the order entries parsed from the user input
      */
-    public void handleMultipleAddOrders(Command command, Menu listOfItems, TransactionUi transactionUi)
-            throws DuplicateArgumentFoundException {
-
-        command.mapArgumentAlias("items", "I");
-
-        String[] ordersArguments = command.getArgumentMap().get("items").split(",");
-
-        for (String orderString : ordersArguments) {
-
-            if (orderString.charAt(0) == '[') {
-                orderString = orderString.substring(1);
-            }
-
-            if (orderString.substring(orderString.length() - 1).equals("]")) {
-                orderString = orderString.substring(0, orderString.length() - 1);
-            }
-
-            orderString = orderString.trim();
-            int itemIndex = Integer.parseInt(orderString.split(":")[0]);
-            int quantity = Integer.parseInt(orderString.split(":")[1]);
-
-            OrderEntry orderEntry = new OrderEntry(listOfItems.getItems().get(itemIndex), quantity);
-            this.orderEntries.add(orderEntry);
+    public void handleMultipleAddOrders(ArrayList<OrderEntry> orderEntries) {
+        for (OrderEntry orderEntry : orderEntries) {
+            addOrderEntry(orderEntry);
         }
     }
 
@@ -0,0 +1,142 @@
+package order;
+
+import item.Item;
+import utility.RecordCodec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.UUID;
+
+/**
+ * This class converts an Order to and from a binary record, for order lists saved in the binary format.
+ * The ID of the order is written as the 16 bytes of its UUID, the date and time as seconds since the epoch
+ * followed by the nanoseconds, and the status as a one-byte code. Each entry is written as the ID of its item,
+ * the unit price in cents and the quantity. IDs, statuses and entries written before items had IDs that do not
+ * fit these forms are written as text instead, so that every order can be converted back to JSON unchanged.
+ */
+class OrderCodec implements RecordCodec<Order> {
+    private static final byte TEXT_ID = 0;
+    private static final byte UUID_ID = 1;
+
+    /**
+     * The statuses an order can have, indexed by their code. Code 0 is followed by the status as text.
+     */
+    private static final String[] STATUSES = {null, "IN PROGRESS", "COMPLETED", "REFUNDED"};
+
+    @Override
+    public void write(Order order, DataOutput out) throws IOException {
+        writeOrderId(order.getOrderId(), out);
+
+        LocalDateTime dateTime = order.getDateTime();
+        out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(dateTime.getNano());
+
+        int statusCode = findStatusCode(order.getStatus());
+        out.writeByte(statusCode);
+        if (statusCode == 0) {
+            writeNullableString(order.getStatus(), out);
+        }
+        writeNullableString(order.getPaymentType(), out);
+
+        out.writeInt(order.getOrderEntries().size());
+        for (OrderEntry orderEntry : order.getOrderEntries()) {
+            out.writeInt(orderEntry.getItemId());
+            out.writeLong(orderEntry.getUnitPriceInCents());
+            out.writeInt(orderEntry.getQuantity());
+            if (orderEntry.getItemId() == Item.NO_ID) {
+                out.writeUTF(orderEntry.getItem().getName());
+            }
+        }
+    }
+
+    @Override
+    public Order read(DataInput in) throws IOException {
+        String orderId = readOrderId(in);
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+
+        int statusCode = in.readUnsignedByte();
+        if (statusCode >= STATUSES.length) {
+            throw new IOException("Unknown order status code " + statusCode);
+        }
+        String status = statusCode == 0 ? readNullableString(in) : STATUSES[statusCode];
+        String paymentType = readNullableString(in);
+
+        int entryCount = in.readInt();
+        ArrayList<OrderEntry> orderEntries = new ArrayList<>(Math.max(0, Math.min(entryCount, 64)));
+        for (int i = 0; i < entryCount; i++) {
+            int itemId = in.readInt();
+            long unitPriceInCents = in.readLong();
+            int quantity = in.readInt();
+            Item item = null;
+            if (itemId == Item.NO_ID) {
+                item = new Item(Item.NO_ID, in.readUTF(), unitPriceInCents);
+            }
+            orderEntries.add(new OrderEntry(itemId, unitPriceInCents, quantity, item));
+        }
+
+        return new Order(orderId, dateTime, orderEntries, status, paymentType);
+    }
+
+    private void writeOrderId(String orderId, DataOutput out) throws IOException {
+        UUID uuid = parseUuid(orderId);
+        if (uuid == null) {
+            out.writeByte(TEXT_ID);
+            writeNullableString(orderId, out);
+            return;
+        }
+        out.writeByte(UUID_ID);
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private String readOrderId(DataInput in) throws IOException {
+        byte kind = in.readByte();
+        if (kind == UUID_ID) {
+            return new UUID(in.readLong(), in.readLong()).toString();
+        }
+        if (kind == TEXT_ID) {
+            return readNullableString(in);
+        }
+        throw new IOException("Unknown order ID kind " + kind);
+    }
+
+    /**
+     * Returns the UUID written in the order ID, or null if the ID is not a UUID in its usual form,
+     * so that the ID is read back exactly as it was.
+     */
+    private static UUID parseUuid(String orderId) {
+        if (orderId == null || orderId.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(orderId);
+            return uuid.toString().equals(orderId) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static int findStatusCode(String status) {
+        for (int i = 1; i < STATUSES.length; i++) {
+            if (STATUSES[i].equals(status)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private static void writeNullableString(String value, DataOutput out) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
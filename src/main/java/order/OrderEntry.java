@@ -1,22 +1,37 @@
 package order;
 
+import com.google.gson.annotations.JsonAdapter;
 import item.Item;
+import item.Menu;
 
 /**
  * The OrderEntry class represents a single entry in an order, consisting of an item and its quantity.
+ * The entry refers to the item by its ID and keeps the unit price the item was sold at,
+ * so that later changes to the menu do not change past orders.
  */
+@JsonAdapter(OrderEntryAdapter.class)
 public class OrderEntry {
 
     /**
-     * The item in the order entry.
+     * The ID of the item in the order entry.
      */
-    private Item item;
+    private int itemId;
+
+    /**
+     * The price of one unit of the item when the order was made, in cents.
+     */
+    private long unitPriceInCents;
 
     /**
      * The quantity of the item in the order entry.
      */
     private int quantity;
 
+    /**
+     * The item in the order entry, once it has been resolved from the menu.
+     */
+    private Item item;
+
     /**
      * Constructs an OrderEntry with the given item and quantity.
      *
@@ -24,19 +39,52 @@ public class OrderEntry {
      * @param quantity the quantity of the item in the order entry
      */
     public OrderEntry(Item item, int quantity) {
+        this.itemId = item.getId();
+        this.unitPriceInCents = item.getPriceInCents();
+        this.quantity = quantity;
         this.item = item;
+    }
+
+    /**
+     * Constructs an OrderEntry read from a data file.
+     *
+     * @param itemId           the ID of the item, or Item.NO_ID for an entry written before items had IDs
+     * @param unitPriceInCents the price of one unit of the item in cents
+     * @param quantity         the quantity of the item
+     * @param item             the item written with the entry, or null if only its ID was written
+     */
+    OrderEntry(int itemId, long unitPriceInCents, int quantity, Item item) {
+        this.itemId = itemId;
+        this.unitPriceInCents = unitPriceInCents;
         this.quantity = quantity;
+        this.item = item;
     }
 
     /**
-     * Returns the item in the order entry.
+     * Returns the item in the order entry. If the entry has not been resolved from the menu,
+     * an item with the ID and unit price of the entry is returned.
      *
      * @return the item in the order entry
      */
     public Item getItem() {
+        if (item == null) {
+            item = new Item(itemId, "Item #" + itemId, unitPriceInCents);
+        }
         return item;
     }
 
+    public int getItemId() {
+        return itemId;
+    }
+
+    /**
+     * Returns the price of one unit of the item when the order was made, in cents.
+     *
+     * @return the unit price in cents
+     */
+    public long getUnitPriceInCents() {
+        return unitPriceInCents;
+    }
 
     /**
      * Returns the quantity of the item in the order entry.
@@ -47,5 +95,29 @@ public class OrderEntry {
         return quantity;
     }
 
+    /**
+     * Returns the unit price of the item multiplied by the quantity, in cents.
+     *
+     * @return the total price of the order entry in cents
+     */
+    public long getTotalInCents() {
+        return quantity * unitPriceInCents;
+    }
 
+    /**
+     * Links the entry to its item on the menu. An entry written before items had IDs
+     * is matched to a menu item by name, and takes the ID of that item.
+     *
+     * @param menu the menu holding the item, including items deleted from it
+     * @return true if the ID of the entry was changed
+     */
+    boolean resolveItem(Menu menu) {
+        String name = item == null ? null : item.getName();
+        item = menu.resolveItem(itemId, name, unitPriceInCents);
+        if (item.getId() == itemId) {
+            return false;
+        }
+        itemId = item.getId();
+        return true;
+    }
 }
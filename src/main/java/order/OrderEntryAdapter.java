@@ -0,0 +1,84 @@
+package order;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import item.Item;
+import item.ItemAdapter;
+import utility.Money;
+
+import java.io.IOException;
+
+/**
+ * This class converts an OrderEntry to and from JSON.
+ * An entry is written as the ID of its item and the unit price in cents it was sold at, rather than a copy of
+ * the item. Entries written before prices were kept in cents hold the unit price in dollars, which is still read.
+ * Entries written before items had IDs hold a copy of the item, which is still read, and written back
+ * as is until the entry has been given an ID.
+ */
+public class OrderEntryAdapter extends TypeAdapter<OrderEntry> {
+    private final ItemAdapter itemAdapter = new ItemAdapter();
+
+    @Override
+    public void write(JsonWriter writer, OrderEntry orderEntry) throws IOException {
+        if (orderEntry == null) {
+            writer.nullValue();
+            return;
+        }
+
+        writer.beginObject();
+        if (orderEntry.getItemId() != Item.NO_ID) {
+            writer.name("itemId").value(orderEntry.getItemId());
+            writer.name("unitPriceInCents").value(orderEntry.getUnitPriceInCents());
+        } else {
+            writer.name("item");
+            itemAdapter.write(writer, orderEntry.getItem());
+        }
+        writer.name("quantity").value(orderEntry.getQuantity());
+        writer.endObject();
+    }
+
+    @Override
+    public OrderEntry read(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+
+        int itemId = Item.NO_ID;
+        long unitPriceInCents = 0;
+        int quantity = 0;
+        Item item = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "itemId":
+                itemId = reader.nextInt();
+                break;
+            case "unitPriceInCents":
+                unitPriceInCents = reader.nextLong();
+                break;
+            case "unitPrice":
+                unitPriceInCents = Money.toCents(reader.nextDouble());
+                break;
+            case "quantity":
+                quantity = reader.nextInt();
+                break;
+            case "item":
+                item = itemAdapter.read(reader);
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (item != null && itemId == Item.NO_ID) {
+            itemId = item.getId();
+            unitPriceInCents = item.getPriceInCents();
+        }
+        return new OrderEntry(itemId, unitPriceInCents, quantity, item);
+    }
+}
@@ -0,0 +1,66 @@
+package order;
+
+/**
+ * The OrderJournalRecord class represents a single change to the list of orders,
+ * as it is appended to the order journal.
+ */
+class OrderJournalRecord {
+    static final String APPEND = "APPEND";
+    static final String UPDATE = "UPDATE";
+
+    private String type;
+    private Order order;
+    private String orderId;
+    private String status;
+    private String paymentType;
+
+    private OrderJournalRecord(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Creates a record for a new order appended to the order list.
+     *
+     * @param order the order that was appended
+     * @return the journal record
+     */
+    static OrderJournalRecord ofAppend(Order order) {
+        OrderJournalRecord record = new OrderJournalRecord(APPEND);
+        record.order = order;
+        return record;
+    }
+
+    /**
+     * Creates a record for a change in the status or payment type of an existing order.
+     *
+     * @param order the order that was changed
+     * @return the journal record
+     */
+    static OrderJournalRecord ofUpdate(Order order) {
+        OrderJournalRecord record = new OrderJournalRecord(UPDATE);
+        record.orderId = order.getOrderId();
+        record.status = order.getStatus();
+        record.paymentType = order.getPaymentType();
+        return record;
+    }
+
+    String getType() {
+        return type;
+    }
+
+    Order getOrder() {
+        return order;
+    }
+
+    String getOrderId() {
+        return orderId;
+    }
+
+    String getStatus() {
+        return status;
+    }
+
+    String getPaymentType() {
+        return paymentType;
+    }
+}
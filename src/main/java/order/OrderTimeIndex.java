@@ -0,0 +1,123 @@
+package order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The OrderTimeIndex class keeps the orders sorted by the time they were made,
+ * so that the orders within a date range can be found by binary search.
+ * The orders are kept in a segmented list, so that a snapshot of the index can be searched by other threads
+ * while orders are added. An order made before the latest order, such as one that was made before another till's
+ * order but paid for after it, is inserted in its place, which only copies the segments from that place onwards.
+ */
+public class OrderTimeIndex {
+    /**
+     * The orders, sorted by date and time. Orders made at the same time keep the order they were added in.
+     */
+    private SegmentedOrderList orders;
+
+    public OrderTimeIndex() {
+        this.orders = new SegmentedOrderList();
+    }
+
+    /**
+     * Adds an order to the index. New orders are normally the latest, so they are added to the end directly,
+     * and others are inserted after the orders made at or before the same time.
+     *
+     * @param order the order to add
+     */
+    public void add(Order order) {
+        orders.insert(upperBound(orders.snapshot(), order.getDateTime()), order);
+    }
+
+    /**
+     * Returns the orders made between the start and end date, both inclusive, sorted by date and time.
+     * The returned list is a read-only view of the index, which does not change as orders are added.
+     *
+     * @param startDate the start of the date range
+     * @param endDate   the end of the date range
+     * @return the orders within the date range
+     */
+    public List<Order> getOrdersBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        return getOrdersBetween(snapshot(), startDate, endDate);
+    }
+
+    /**
+     * Returns the orders in the index, sorted by date and time, as a read-only view that does not change
+     * as orders are added.
+     *
+     * @return the sorted orders
+     */
+    List<Order> snapshot() {
+        return orders.snapshot();
+    }
+
+    /**
+     * Returns the orders made between the start and end date, both inclusive, from a snapshot of an index.
+     *
+     * @param sortedOrders the orders of the index, sorted by date and time
+     * @param startDate    the start of the date range
+     * @param endDate      the end of the date range
+     * @return the orders within the date range
+     */
+    static List<Order> getOrdersBetween(List<Order> sortedOrders, LocalDateTime startDate, LocalDateTime endDate) {
+        int fromIndex = lowerBound(sortedOrders, startDate);
+        int toIndex = Math.max(fromIndex, upperBound(sortedOrders, endDate));
+        return sortedOrders.subList(fromIndex, toIndex);
+    }
+
+    public int size() {
+        return orders.size();
+    }
+
+    /**
+     * Finds the position of the first order made at or after the given date.
+     *
+     * @param orders   the orders, sorted by date and time
+     * @param dateTime the date to search for
+     * @return the position of the first order that is not before the date
+     */
+    private static int lowerBound(List<Order> orders, LocalDateTime dateTime) {
+        int low = 0;
+        int high = orders.size();
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (orders.get(mid).getDateTime().isBefore(dateTime)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Finds the position of the first order made after the given date.
+     *
+     * @param orders   the orders, sorted by date and time
+     * @param dateTime the date to search for
+     * @return the position of the first order that is after the date
+     */
+    private static int upperBound(List<Order> orders, LocalDateTime dateTime) {
+        int size = orders.size();
+        if (size == 0 || !orders.get(size - 1).getDateTime().isAfter(dateTime)) {
+            return size;
+        }
+
+        int low = 0;
+        int high = size;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (orders.get(mid).getDateTime().isAfter(dateTime)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        return low;
+    }
+}
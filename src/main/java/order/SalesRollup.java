@@ -0,0 +1,165 @@
+package order;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The SalesRollup class keeps the sales of completed orders summed up by day and by month, in cents.
+ * It is updated as orders are added and refunded, so that sales reports do not need to go through
+ * every order. The counts of orders it covers are saved with it, to detect a rollup that is out of
+ * date with the order list. Its public methods are synchronized, so that reports can read it while
+ * orders are being added.
+ */
+public class SalesRollup {
+    private static final String COMPLETED = "COMPLETED";
+    private static final int MONTHS_IN_YEAR = 12;
+
+    /**
+     * The sales of each day, keyed by the number of days since the epoch.
+     */
+    private TreeMap<Long, Long> dailySales;
+
+    /**
+     * The sales of each month, keyed by the number of months since year 0.
+     */
+    private TreeMap<Long, Long> monthlySales;
+
+    private int orderCount;
+    private int completedCount;
+
+    public SalesRollup() {
+        this.dailySales = new TreeMap<>();
+        this.monthlySales = new TreeMap<>();
+        this.orderCount = 0;
+        this.completedCount = 0;
+    }
+
+    /**
+     * Adds a new order to the rollup. Only completed orders count towards the sales.
+     *
+     * @param order the order that was added to the order list
+     */
+    public synchronized void addOrder(Order order) {
+        orderCount++;
+        if (COMPLETED.equals(order.getStatus())) {
+            addSales(order, 1);
+        }
+    }
+
+    /**
+     * Updates the rollup after the status of an order has changed,
+     * such as when a completed order is refunded.
+     *
+     * @param order          the order whose status has changed
+     * @param previousStatus the status of the order before the change
+     */
+    public synchronized void changeStatus(Order order, String previousStatus) {
+        boolean wasCompleted = COMPLETED.equals(previousStatus);
+        boolean isCompleted = COMPLETED.equals(order.getStatus());
+
+        if (wasCompleted && !isCompleted) {
+            addSales(order, -1);
+        } else if (!wasCompleted && isCompleted) {
+            addSales(order, 1);
+        }
+    }
+
+    /**
+     * Returns the total sales between the start and end date, both inclusive.
+     *
+     * @param startDate the first day to include
+     * @param endDate   the last day to include
+     * @return the total sales in cents
+     */
+    public synchronized long getTotalSales(LocalDate startDate, LocalDate endDate) {
+        long totalSales = 0;
+        for (long sales : dailySales.subMap(startDate.toEpochDay(), true, endDate.toEpochDay(), true).values()) {
+            totalSales += sales;
+        }
+        return totalSales;
+    }
+
+    /**
+     * Returns the sales of each day with sales between the start and end date, both inclusive.
+     *
+     * @param startDate the first day to include
+     * @param endDate   the last day to include
+     * @return a map of each day to its sales in cents, sorted by day
+     */
+    public synchronized Map<LocalDate, Long> getDailySales(LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, Long> salesMap = new LinkedHashMap<>();
+        for (Map.Entry<Long, Long> entry : dailySales.subMap(startDate.toEpochDay(), true,
+                endDate.toEpochDay(), true).entrySet()) {
+            salesMap.put(LocalDate.ofEpochDay(entry.getKey()), entry.getValue());
+        }
+        return salesMap;
+    }
+
+    /**
+     * Returns the sales of each month with sales between the months of the start and end date, both inclusive.
+     *
+     * @param startDate a day in the first month to include
+     * @param endDate   a day in the last month to include
+     * @return a map of the first day of each month to its sales in cents, sorted by month
+     */
+    public synchronized Map<LocalDate, Long> getMonthlySales(LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, Long> salesMap = new LinkedHashMap<>();
+        for (Map.Entry<Long, Long> entry : monthlySales.subMap(toMonthKey(startDate), true,
+                toMonthKey(endDate), true).entrySet()) {
+            long month = entry.getKey();
+            int year = (int) Math.floorDiv(month, MONTHS_IN_YEAR);
+            salesMap.put(LocalDate.of(year, Math.floorMod(month, MONTHS_IN_YEAR) + 1, 1), entry.getValue());
+        }
+        return salesMap;
+    }
+
+    /**
+     * Checks whether the rollup covers exactly the given numbers of orders.
+     *
+     * @param orderCount     the number of orders in the order list
+     * @param completedCount the number of completed orders in the order list
+     * @return true if the rollup matches the order list
+     */
+    public synchronized boolean isUpToDate(int orderCount, int completedCount) {
+        return dailySales != null && monthlySales != null
+                && this.orderCount == orderCount && this.completedCount == completedCount;
+    }
+
+    /**
+     * Returns a copy of the rollup as it is now, which can be saved while orders are still being added.
+     *
+     * @return a copy of the rollup
+     */
+    public synchronized SalesRollup copy() {
+        SalesRollup rollup = new SalesRollup();
+        rollup.dailySales = new TreeMap<>(dailySales);
+        rollup.monthlySales = new TreeMap<>(monthlySales);
+        rollup.orderCount = orderCount;
+        rollup.completedCount = completedCount;
+        return rollup;
+    }
+
+    private void addSales(Order order, int sign) {
+        LocalDate date = order.getDateTime().toLocalDate();
+        long sales = sign * order.getSubTotalInCents();
+
+        completedCount += sign;
+        addTo(dailySales, date.toEpochDay(), sales);
+        addTo(monthlySales, toMonthKey(date), sales);
+    }
+
+    private void addTo(TreeMap<Long, Long> salesMap, long key, long sales) {
+        long total = salesMap.getOrDefault(key, 0L) + sales;
+        if (total == 0) {
+            salesMap.remove(key);
+        } else {
+            salesMap.put(key, total);
+        }
+    }
+
+    private long toMonthKey(LocalDate date) {
+        return (long) date.getYear() * MONTHS_IN_YEAR + date.getMonthValue() - 1;
+    }
+}
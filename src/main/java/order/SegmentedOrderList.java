@@ -0,0 +1,145 @@
+package order;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The SegmentedOrderList class is a list of orders stored in fixed-size segments, which mostly grows at the end.
+ * A snapshot of the list is a read-only view of the orders in it at the time, and is not affected by orders
+ * added afterwards: new orders only go into slots past the end of every snapshot, and a full segment is never
+ * copied or moved. Taking a snapshot does not copy any order, so a reader can go through a long list without
+ * holding up the thread adding orders to it.
+ * <p>
+ * An order can also be inserted before the end. Only the segments from the one it goes into onwards are copied,
+ * and the orders after it moved along in the copies, so earlier snapshots keep the segments they were taken with.
+ * Inserting near the end, which is where orders that arrive a little late go, costs about one segment.
+ * <p>
+ * The list itself is not thread-safe. Orders must be added by one thread at a time, and a snapshot must be handed
+ * to other threads in a way that makes the orders added before it visible to them, such as through a volatile field.
+ */
+class SegmentedOrderList {
+    private static final int SEGMENT_SHIFT = 10;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+
+    private Order[][] segments;
+    private int size;
+
+    SegmentedOrderList() {
+        this.segments = new Order[1][];
+        this.size = 0;
+    }
+
+    /**
+     * Constructs a list holding the given orders, in the same order.
+     *
+     * @param orders the orders to hold
+     */
+    SegmentedOrderList(List<Order> orders) {
+        this();
+        for (Order order : orders) {
+            add(order);
+        }
+    }
+
+    /**
+     * Adds an order to the end of the list.
+     *
+     * @param order the order to add
+     */
+    void add(Order order) {
+        int segment = size >>> SEGMENT_SHIFT;
+        if (segment == segments.length) {
+            segments = Arrays.copyOf(segments, segments.length * 2);
+        }
+        if (segments[segment] == null) {
+            segments[segment] = new Order[SEGMENT_SIZE];
+        }
+        segments[segment][size & (SEGMENT_SIZE - 1)] = order;
+        size++;
+    }
+
+    /**
+     * Inserts an order at the given position, moving the orders from that position onwards one place along.
+     *
+     * @param index the position to insert the order at, from 0 to the size of the list
+     * @param order the order to insert
+     */
+    void insert(int index, Order order) {
+        if (index == size) {
+            add(order);
+            return;
+        }
+
+        int firstSegment = index >>> SEGMENT_SHIFT;
+        int lastSegment = size >>> SEGMENT_SHIFT;
+        Order[][] copiedSegments = Arrays.copyOf(segments,
+                lastSegment < segments.length ? segments.length : segments.length * 2);
+        for (int segment = firstSegment; segment <= lastSegment; segment++) {
+            copiedSegments[segment] = copiedSegments[segment] == null
+                    ? new Order[SEGMENT_SIZE] : copiedSegments[segment].clone();
+        }
+
+        for (int position = size; position > index; position--) {
+            int from = position - 1;
+            copiedSegments[position >>> SEGMENT_SHIFT][position & (SEGMENT_SIZE - 1)] =
+                    copiedSegments[from >>> SEGMENT_SHIFT][from & (SEGMENT_SIZE - 1)];
+        }
+        copiedSegments[firstSegment][index & (SEGMENT_SIZE - 1)] = order;
+        segments = copiedSegments;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns a read-only view of the orders in the list, which stays the same as orders are added to the list.
+     *
+     * @return the orders in the list
+     */
+    List<Order> snapshot() {
+        return new Snapshot(segments, 0, size);
+    }
+
+    /**
+     * A read-only view of a range of the orders of a segmented list. Its sublists are views of the same kind,
+     * so that a range of a snapshot can be read as quickly as the whole snapshot.
+     */
+    private static class Snapshot extends AbstractList<Order> implements RandomAccess {
+        private final Order[][] segments;
+        private final int offset;
+        private final int size;
+
+        private Snapshot(Order[][] segments, int offset, int size) {
+            this.segments = segments;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        public Order get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+            }
+            int position = offset + index;
+            return segments[position >>> SEGMENT_SHIFT][position & (SEGMENT_SIZE - 1)];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public List<Order> subList(int fromIndex, int toIndex) {
+            if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex
+                        + ") out of bounds for length " + size);
+            }
+            return new Snapshot(segments, offset + fromIndex, toIndex - fromIndex);
+        }
+    }
+}
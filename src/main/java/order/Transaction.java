@@ -2,50 +2,161 @@ package order;
 
 import app.Command;
 import com.google.gson.JsonParseException;
-import com.google.gson.reflect.TypeToken;
 
+import exception.FileIsCorruptedException;
 import exception.FileIsEmptyException;
 import exception.UnrecognisedCommandException;
+import item.Menu;
 import ui.Flags;
 import ui.StoreUi;
 import ui.TransactionUi;
 import ui.Ui;
+import utility.Journal;
+import utility.PersistenceService;
+import utility.StorageFormat;
 import utility.Store;
 import validation.Validation;
 
 import java.io.IOException;
-import java.lang.reflect.Type;
+import java.nio.file.NoSuchFileException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * The OrderList class represents a list of orders.
+ * The OrderList class represents a list of orders, which can be shared by several terminals.
+ * Methods that change the order list are synchronized, and keep the lock only while the change is made.
+ * After each change, a snapshot of the order list is published, and methods that read orders, such as those
+ * used by reports, read the latest snapshot without taking the lock. So a long report never holds up checkout,
+ * and the orders it reads stay the same while it runs, although their status may still change if they are refunded.
+ * Changes are written out by the PersistenceService, which may do so on a background thread after the change
+ * has returned.
  */
 public class Transaction {
+    /**
+     * The number of journal records after which the full order list is saved again.
+     */
+    private static final int CHECKPOINT_INTERVAL = 100;
+
+    private static final String ROLLUP_SUFFIX = "-rollup.json";
+    private static final String BINARY_SUFFIX = ".bin";
+    private static final OrderCodec ORDER_CODEC = new OrderCodec();
+
     /**
      * The list of orders.
      */
-    private ArrayList<Order> transactions;
+    private SegmentedOrderList transactions;
+
+    /**
+     * The orders in the order list, keyed by order ID.
+     */
+    private ConcurrentHashMap<String, Order> orderIndex;
+
+    /**
+     * The orders in the order list, sorted by the time they were made.
+     */
+    private OrderTimeIndex timeIndex;
+
+    /**
+     * The sales of the completed orders in the order list, summed up by day and by month.
+     */
+    private SalesRollup salesRollup;
+
+    /**
+     * The orders as they were after the latest change, read without taking the lock.
+     */
+    private volatile Snapshot snapshot;
 
     /**
      * The store used to load and save the order list.
      */
     private Store store;
 
+    /**
+     * The store used to load and save the order list in the binary format.
+     */
+    private Store binaryStore;
+
+    /**
+     * Whether the order list was loaded from a file in the format that is not in use. That file is removed
+     * once the order list has been saved in the format in use.
+     */
+    private volatile boolean hasOtherFormatFile;
+
+    /**
+     * The store used to load and save the sales rollup.
+     */
+    private Store rollupStore;
+
+    /**
+     * The journal used to record changes to the order list between saves.
+     */
+    private Journal journal;
+
+    /**
+     * Whether saves are deferred until the order list is flushed, such as while a script is run.
+     */
+    private boolean isSaveDeferred;
+
+    /**
+     * Whether the order list has changed since it was last saved while saves were deferred.
+     */
+    private boolean hasUnsavedChanges;
+
+    /**
+     * The journal records that are waiting to be appended by the PersistenceService.
+     */
+    private ArrayList<OrderJournalRecord> pendingRecords = new ArrayList<>();
+
+    /**
+     * Whether the full order list is waiting to be saved by the PersistenceService.
+     */
+    private boolean isWriteRequested;
+
+    /**
+     * The task that writes out the changes to the order list, queued with the PersistenceService.
+     */
+    private final Runnable committer = this::commit;
+
+    /**
+     * A read-only view of the order list at one point in time, in the order the orders were added
+     * and sorted by the time they were made.
+     */
+    private static class Snapshot {
+        private final List<Order> orders;
+        private final List<Order> ordersByTime;
+
+        private Snapshot(List<Order> orders, List<Order> ordersByTime) {
+            this.orders = orders;
+            this.ordersByTime = ordersByTime;
+        }
+    }
+
     public Transaction(String fileName) {
         this.store = new Store(fileName);
-        Type type = new TypeToken<ArrayList<Order>>() {
-        }.getType();
-
+        this.binaryStore = new Store(fileName.replaceFirst("\\.json$", "") + BINARY_SUFFIX);
+        this.rollupStore = new Store(fileName.replaceFirst("\\.json$", "") + ROLLUP_SUFFIX);
+        this.journal = new Journal(fileName);
         try {
-            this.transactions = store.load(type);
+            this.transactions = new SegmentedOrderList(loadOrders());
+            indexOrders();
+            replayJournal();
+            if (hasOtherFormatFile) {
+                save();
+            }
         } catch (IOException e) {
             new StoreUi().transactionsNotFound();
-            this.transactions = new ArrayList<>();
+            this.transactions = new SegmentedOrderList();
+            indexOrders();
+            replayJournal();
             save();
 
-        } catch (JsonParseException | NumberFormatException | FileIsEmptyException e) {
+        } catch (JsonParseException | NumberFormatException | FileIsEmptyException | FileIsCorruptedException e) {
             if (new StoreUi().reinitializeTransactions()) {
-                this.transactions = new ArrayList<>();
+                this.transactions = new SegmentedOrderList();
+                indexOrders();
+                replayJournal();
                 save();
             } else {
                 System.exit(0);
@@ -54,43 +165,154 @@ public class Transaction {
     }
 
     public Transaction() {
-        this.transactions = new ArrayList<>();
+        this.transactions = new SegmentedOrderList();
+        indexOrders();
     }
 
     public Transaction(String dirName, String fileName) {
         this.store = new Store(dirName, fileName);
-        Type type = new TypeToken<ArrayList<Order>>() {
-        }.getType();
+        try {
+            this.transactions = new SegmentedOrderList(store.loadList(Order.class));
+        } catch (IOException | FileIsEmptyException | FileIsCorruptedException | JsonParseException
+                | NumberFormatException e) {
+            Ui.getOutput().println(e.getMessage());
+            this.transactions = new SegmentedOrderList();
+        }
+        indexOrders();
+    }
 
+    /**
+     * Loads the order list from the file in the format in use. If there is no such file, the order list is
+     * loaded from the file in the other format instead, and is converted by saving it again.
+     *
+     * @return the loaded orders
+     */
+    private ArrayList<Order> loadOrders() throws IOException, FileIsEmptyException, FileIsCorruptedException {
+        boolean isBinary = StorageFormat.getFormat() == StorageFormat.BINARY;
         try {
-            this.transactions = store.load(type);
-        } catch (IOException | FileIsEmptyException | JsonParseException | NumberFormatException e) {
-            System.out.println(e.getMessage());
-            this.transactions = new ArrayList<>();
+            return loadOrders(isBinary);
+        } catch (NoSuchFileException e) {
+            ArrayList<Order> orders = loadOrders(!isBinary);
+            hasOtherFormatFile = true;
+            return orders;
         }
     }
 
+    private ArrayList<Order> loadOrders(boolean isBinary)
+            throws IOException, FileIsEmptyException, FileIsCorruptedException {
+        return isBinary ? binaryStore.loadRecords(ORDER_CODEC) : store.loadList(Order.class);
+    }
+
     /**
-     * Appends the given order to the order list and saves the changes.
+     * Appends the given order to the order list and records the change in the journal.
      *
      * @param order the order to append to the order list
      */
-    public void appendOrder(Order order) {
+    public synchronized void appendOrder(Order order) {
+        order.computeTotals();
         this.transactions.add(order);
-        save();
+        this.orderIndex.put(order.getOrderId(), order);
+        this.timeIndex.add(order);
+        this.salesRollup.addOrder(order);
+        publish();
+        record(OrderJournalRecord.ofAppend(order));
     }
 
     /**
-     * Returns the list of orders.
+     * Records a change in the status or payment type of an order that is already in the order list.
      *
-     * @return the list of orders
+     * @param order the order that was changed
      */
-    public ArrayList<Order> getOrderList() {
-        return this.transactions;
+    public synchronized void updateOrder(Order order) {
+        record(OrderJournalRecord.ofUpdate(order));
     }
 
     /**
-     * Displays the order list using the UI class.
+     * Refunds the given order, which must already be in the order list, and records the change in the journal.
+     * The order is not refunded again if it has already been refunded, such as by another terminal.
+     *
+     * @param order the order to refund
+     * @return true if the order was refunded, or false if it had already been refunded
+     */
+    public synchronized boolean refundOrder(Order order) {
+        String previousStatus = order.getStatus();
+        if (previousStatus.equals("REFUNDED")) {
+            return false;
+        }
+
+        order.setStatus("REFUNDED");
+        salesRollup.changeStatus(order, previousStatus);
+        updateOrder(order);
+        return true;
+    }
+
+    /**
+     * Returns the order with the given order ID.
+     *
+     * @param orderId the ID of the order
+     * @return the order with the given ID, or null if there is no such order
+     */
+    public Order findOrder(String orderId) {
+        return this.orderIndex.get(orderId);
+    }
+
+    /**
+     * Returns the orders made between the start and end date, both inclusive, sorted by date and time.
+     * The orders are read from the latest snapshot, without copying them.
+     *
+     * @param startDate the start of the date range
+     * @param endDate   the end of the date range
+     * @return a read-only list of the orders within the date range
+     */
+    public List<Order> getOrdersBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        return OrderTimeIndex.getOrdersBetween(snapshot.ordersByTime, startDate, endDate);
+    }
+
+    /**
+     * Returns the sales of the completed orders, summed up by day and by month.
+     *
+     * @return the sales rollup
+     */
+    public SalesRollup getSalesRollup() {
+        return this.salesRollup;
+    }
+
+    /**
+     * Links the entries of every order to their items on the menu. Entries saved before items had IDs
+     * are given the ID of their item, and the order list is saved again in the shorter form.
+     *
+     * @param menu the menu holding the items, including items deleted from it
+     */
+    public synchronized void resolveItems(Menu menu) {
+        boolean hasChangedEntries = false;
+        for (Order order : transactions.snapshot()) {
+            for (OrderEntry orderEntry : order.getOrderEntries()) {
+                hasChangedEntries |= orderEntry.resolveItem(menu);
+            }
+        }
+
+        menu.saveNewItemIds();
+        if (hasChangedEntries) {
+            save();
+        }
+    }
+
+    /**
+     * Returns the list of orders from the latest snapshot, which does not change as orders are added.
+     *
+     * @return a read-only list of the orders
+     */
+    public List<Order> getOrderList() {
+        return snapshot.orders;
+    }
+
+    public boolean isEmpty() {
+        return snapshot.orders.isEmpty();
+    }
+
+    /**
+     * Displays the order list using the UI class. The list is read from the latest snapshot,
+     * so that other terminals are not kept waiting while it is displayed.
      */
     public void displayList(Command command) {
         try {
@@ -103,20 +325,242 @@ public class Transaction {
         }
 
         TransactionUi transactionUi = new TransactionUi();
-        transactionUi.printOrderList(this.transactions);
+        transactionUi.printOrderList(getOrderList());
         transactionUi.printSuccessfulListOrder();
     }
 
     /**
-     * Saves the order list using the store.
+     * Sets whether saves are deferred. While they are deferred, changes are neither saved nor journaled
+     * until the order list is flushed. Any deferred changes are saved once saves are no longer deferred.
+     *
+     * @param isSaveDeferred true to defer saves until the order list is flushed
+     */
+    public synchronized void setSaveDeferred(boolean isSaveDeferred) {
+        this.isSaveDeferred = isSaveDeferred;
+        if (!isSaveDeferred) {
+            flush();
+        }
+    }
+
+    /**
+     * Saves the order list if it has changed while saves were deferred, even if saves are still deferred.
+     */
+    public synchronized void flush() {
+        if (hasUnsavedChanges) {
+            requestWrite();
+        }
+    }
+
+    /**
+     * Saves the order list, unless saves are deferred.
+     */
+    public synchronized void save() {
+        if (isSaveDeferred) {
+            hasUnsavedChanges = true;
+            return;
+        }
+        requestWrite();
+    }
+
+    /**
+     * Asks for the full order list to be saved by the PersistenceService.
+     * An order list that was not loaded from a file is not saved.
+     */
+    private void requestWrite() {
+        hasUnsavedChanges = false;
+        if (store == null) {
+            return;
+        }
+        isWriteRequested = true;
+        PersistenceService.getService().submit(committer);
+    }
+
+    /**
+     * Queues a record for the journal, to be appended by the PersistenceService together with any other
+     * records queued in the meantime. While saves are deferred, the change is only saved when the order list
+     * is flushed.
+     *
+     * @param record the record of the change
+     */
+    private void record(OrderJournalRecord record) {
+        if (journal == null || isSaveDeferred) {
+            save();
+            return;
+        }
+        pendingRecords.add(record);
+        PersistenceService.getService().submit(committer);
+    }
+
+    /**
+     * Writes out the changes made so far. The queued records are appended to the journal in one write,
+     * and the full order list is saved if that was asked for or once enough records have been appended.
+     * Falls back to saving the full order list again if the journal cannot be written to.
+     * <p>
+     * The records and the orders to save are taken together while holding the lock, and written after
+     * letting go of it, so that checkout does not wait on the storage device.
+     */
+    private void commit() {
+        ArrayList<OrderJournalRecord> records;
+        List<Order> orders;
+        SalesRollup rollup;
+        boolean isWriteDue;
+        synchronized (this) {
+            records = pendingRecords;
+            pendingRecords = new ArrayList<>();
+            isWriteDue = isWriteRequested || (journal != null
+                    && journal.getRecordCount() + records.size() >= CHECKPOINT_INTERVAL);
+            isWriteRequested = false;
+            orders = snapshot.orders;
+            rollup = isWriteDue ? salesRollup.copy() : null;
+        }
+
+        if (!records.isEmpty()) {
+            try {
+                journal.appendAll(records);
+            } catch (IOException e) {
+                Ui.getOutput().println(e.getMessage());
+                synchronized (this) {
+                    requestWrite();
+                }
+            }
+        }
+        if (isWriteDue) {
+            write(orders, rollup);
+        }
+    }
+
+    /**
+     * Saves the given orders in the format in use, followed by the sales rollup. The saved order list and the
+     * rename that put it in place are then forced to the storage device whatever the FsyncPolicy, and only then
+     * is the journal cleared, since every record in it is now part of the saved order list. The sales rollup is
+     * left to the policy, since it is rebuilt from the order list if it does not match it.
+     * A file the order list was converted from is removed at the same point.
+     *
+     * @param orders the orders to save
+     * @param rollup the sales rollup of the orders
      */
-    public void save() {
+    private void write(List<Order> orders, SalesRollup rollup) {
+        boolean isBinary = binaryStore != null && StorageFormat.getFormat() == StorageFormat.BINARY;
         try {
-            store.save(transactions);
+            if (isBinary) {
+                binaryStore.saveRecords(orders, ORDER_CODEC);
+            } else {
+                store.save(orders);
+            }
+            if (rollupStore != null) {
+                rollupStore.save(rollup);
+            }
+            // The saved order list is about to become the only copy of the journaled changes,
+            // so it is forced to the storage device whatever the FsyncPolicy
+            if (journal != null || hasOtherFormatFile) {
+                (isBinary ? binaryStore : store).force();
+            }
+            // The file in the other format goes before the journal, so that a crash in between can never leave
+            // an out-of-date order list to be loaded without the journal that brings it up to date
+            if (hasOtherFormatFile) {
+                (isBinary ? store : binaryStore).delete();
+                hasOtherFormatFile = false;
+            }
+            if (journal != null) {
+                journal.clear();
+            }
         } catch (IOException e) {
-            System.out.println(e.getMessage());
+            Ui.getOutput().println(e.getMessage());
+            PersistenceService.getService().reportFailure(e);
         }
     }
 
+    /**
+     * Applies the records in the journal on top of the loaded order list,
+     * and saves the result so that the journal starts empty.
+     * An appended order that is already in the order list is skipped, since the journal is only cleared
+     * after the order list has been saved, and a crash in between leaves records that the save already covers.
+     */
+    private void replayJournal() {
+        ArrayList<OrderJournalRecord> records;
+        try {
+            records = journal.load(OrderJournalRecord.class);
+        } catch (IOException e) {
+            Ui.getOutput().println(e.getMessage());
+            return;
+        }
+
+        if (records.isEmpty()) {
+            return;
+        }
+
+        for (OrderJournalRecord record : records) {
+            if (record.getType().equals(OrderJournalRecord.APPEND)) {
+                if (orderIndex.containsKey(record.getOrder().getOrderId())) {
+                    continue;
+                }
+                transactions.add(record.getOrder());
+                orderIndex.put(record.getOrder().getOrderId(), record.getOrder());
+                timeIndex.add(record.getOrder());
+                salesRollup.addOrder(record.getOrder());
+            } else if (record.getType().equals(OrderJournalRecord.UPDATE)) {
+                replayUpdate(record);
+            }
+        }
 
+        publish();
+        save();
+    }
+
+    private void replayUpdate(OrderJournalRecord record) {
+        Order order = orderIndex.get(record.getOrderId());
+        if (order != null) {
+            String previousStatus = order.getStatus();
+            order.setStatus(record.getStatus());
+            order.setPaymentType(record.getPaymentType());
+            salesRollup.changeStatus(order, previousStatus);
+        }
+    }
+
+    /**
+     * Publishes a snapshot of the order list as it is now, for methods that read orders without the lock.
+     */
+    private void publish() {
+        snapshot = new Snapshot(transactions.snapshot(), timeIndex.snapshot());
+    }
+
+    private void indexOrders() {
+        orderIndex = new ConcurrentHashMap<>();
+        timeIndex = new OrderTimeIndex();
+        int completedCount = 0;
+        for (Order order : transactions.snapshot()) {
+            orderIndex.put(order.getOrderId(), order);
+            timeIndex.add(order);
+            if (order.getStatus().equals("COMPLETED")) {
+                completedCount++;
+            }
+        }
+        loadSalesRollup(completedCount);
+        publish();
+    }
+
+    /**
+     * Loads the saved sales rollup, or rebuilds it from the order list if it is missing
+     * or does not match the order list.
+     *
+     * @param completedCount the number of completed orders in the order list
+     */
+    private void loadSalesRollup(int completedCount) {
+        if (rollupStore != null) {
+            try {
+                SalesRollup savedRollup = rollupStore.load(SalesRollup.class);
+                if (savedRollup != null && savedRollup.isUpToDate(transactions.size(), completedCount)) {
+                    salesRollup = savedRollup;
+                    return;
+                }
+            } catch (IOException | FileIsEmptyException | FileIsCorruptedException | JsonParseException e) {
+                // The rollup is rebuilt from the order list below
+            }
+        }
+
+        salesRollup = new SalesRollup();
+        for (Order order : transactions.snapshot()) {
+            salesRollup.addOrder(order);
+        }
+    }
 }
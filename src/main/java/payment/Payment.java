@@ -5,6 +5,7 @@ import exception.DuplicateArgumentFoundException;
 import item.MenuAssistant;
 import order.Order;
 import ui.TransactionUi;
+import utility.Money;
 import validation.order.PaymentValidation;
 
 
@@ -50,9 +51,9 @@ public class Payment {
                 arg.mapArgumentAlias("t", "type");
                 order.setPaymentType(arg.getArgumentMap().get("t").trim());
                 order.setStatus("COMPLETED");
-                double amount = Double.parseDouble(arg.getArgumentMap().get("a").trim());
-                if (amount != order.getSubTotal()) {
-                    transactionUi.printChangeGiven(calculateChange(amount, order));
+                long amountInCents = Money.parseCents(arg.getArgumentMap().get("a"));
+                if (amountInCents != order.getSubTotalInCents()) {
+                    transactionUi.printChangeGiven(Money.toDollars(calculateChangeInCents(amountInCents, order)));
                 }
                 transactionUi.printSuccessfulPayment();
             }
@@ -68,7 +69,18 @@ public class Payment {
      * @return change to give
      */
     public double calculateChange(Double amount, Order order) {
-        return amount - order.getSubTotal();
+        return Money.toDollars(calculateChangeInCents(Money.toCents(amount), order));
+    }
+
+    /**
+     * Compute the change to be given in cents
+     *
+     * @param amountInCents amount paid in cents
+     * @param order         list of order entries
+     * @return change to give in cents
+     */
+    public long calculateChangeInCents(long amountInCents, Order order) {
+        return amountInCents - order.getSubTotalInCents();
     }
 
 }
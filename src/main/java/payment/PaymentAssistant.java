@@ -11,6 +11,7 @@ import exception.order.InvalidPayTypeException;
 import order.Order;
 import ui.Flags;
 import ui.TransactionUi;
+import utility.Money;
 import validation.order.PaymentValidation;
 
 public class PaymentAssistant {
@@ -84,8 +85,8 @@ public class PaymentAssistant {
      * @throws InvalidPaymentAmountForCardException amount not exact when paying by card
      */
     public void checkAmount(Order order) throws InvalidPaymentAmountForCardException {
-        double amountToPay = Double.parseDouble(amount);
-        if (type.equalsIgnoreCase("card") && amountToPay != order.getSubTotal()) {
+        long amountInCents = Money.parseCents(amount);
+        if (type.equalsIgnoreCase("card") && amountInCents != order.getSubTotalInCents()) {
             throw new InvalidPaymentAmountForCardException();
         }
     }
@@ -114,9 +115,9 @@ public class PaymentAssistant {
         Payment payment = new Payment();
         order.setPaymentType(type);
         order.setStatus("COMPLETED");
-        double amountToPay = Double.parseDouble(amount);
-        if (amountToPay != order.getSubTotal()) {
-            transactionUi.printChangeGiven(payment.calculateChange(amountToPay, order));
+        long amountInCents = Money.parseCents(amount);
+        if (amountInCents != order.getSubTotalInCents()) {
+            transactionUi.printChangeGiven(Money.toDollars(payment.calculateChangeInCents(amountInCents, order)));
         }
         transactionUi.printSuccessfulPayment();
         return false;
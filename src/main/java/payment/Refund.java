@@ -12,8 +12,6 @@ import ui.Flags;
 import ui.TransactionUi;
 import validation.order.RefundOrderValidation;
 
-import java.util.ArrayList;
-
 public class Refund {
     private TransactionUi transactionUi = new TransactionUi();
 
@@ -26,15 +24,16 @@ public class Refund {
      *
      * @param arg          user command
      * @param transactions list of orders
+     * @return true if the order was refunded
      */
-    public void refundTransaction(Command arg, Transaction transactions) throws DuplicateArgumentFoundException {
+    public boolean refundTransaction(Command arg, Transaction transactions) throws DuplicateArgumentFoundException {
         RefundOrderValidation refundOrderValidation = new RefundOrderValidation();
 
         try {
-            if (!(transactions.getOrderList().isEmpty())) {
+            if (!transactions.isEmpty()) {
                 refundOrderValidation.validateFlag(arg);
                 refundOrderValidation.validateRefund(arg, transactions);
-                getOrder(arg, transactions);
+                return getOrder(arg, transactions);
             } else {
                 transactionUi.printEmptyTransaction();
             }
@@ -47,6 +46,7 @@ public class Refund {
         } catch (InvalidRefundOrderType e) {
             transactionUi.printError(Flags.Error.INVALID_REFUND_ORDER_TYPE);
         }
+        return false;
     }
 
     /**
@@ -54,23 +54,23 @@ public class Refund {
      *
      * @param arg          user input
      * @param transactions whole transaction list
+     * @return true if the order was refunded
      */
-    public void getOrder(Command arg, Transaction transactions) throws DuplicateArgumentFoundException  {
+    public boolean getOrder(Command arg, Transaction transactions) throws DuplicateArgumentFoundException  {
         arg.mapArgumentAlias("i", "id");
         String orderID = arg.getArgumentMap().get("i").trim();
-        Order refundOrder = new Order();
-        ArrayList<Order> orderList = transactions.getOrderList();
+        Order refundOrder = transactions.findOrder(orderID);
 
-        for (Order order : orderList) {
-            String ID = order.getOrderId();
-            if (ID.equals(orderID)) {
-                refundOrder = order;
-                break;
-            }
+        if (refundOrder == null) {
+            transactionUi.printError(Flags.Error.INVALID_REFUND_ORDER_ID);
+            return false;
         }
 
-        refundOrder.setStatus("REFUNDED");
-        transactions.save();
+        if (!transactions.refundOrder(refundOrder)) {
+            transactionUi.printError(Flags.Error.INVALID_REFUND_ORDER_TYPE);
+            return false;
+        }
         transactionUi.printSuccessfulRefundOrder();
+        return true;
     }
 }
@@ -10,8 +10,6 @@ import ui.Flags;
 import ui.TransactionUi;
 import validation.order.RefundOrderValidation;
 
-import java.util.ArrayList;
-
 public class RefundAssistant {
     private final String CANCEL = "/cancel";
     private String orderID = "";
@@ -57,7 +55,7 @@ public class RefundAssistant {
      * @return whether the user entered "/cancel"
      */
     public boolean refundOrder(Transaction transaction) throws DuplicateArgumentFoundException {
-        if (transaction.getOrderList().isEmpty()) {
+        if (transaction.isEmpty()) {
             transactionUi.printEmptyTransaction();
             return true;
         }
@@ -66,23 +64,12 @@ public class RefundAssistant {
         if (isCancelled) {
             return true;
         }
-        Order refundOrder = new Order();
-        ArrayList<Order> orderList = transaction.getOrderList();
-
-        for (Order order : orderList) {
-            String ID = order.getOrderId();
-
-            if (ID.equals(orderID)) {
-                refundOrder = order;
-                break;
-            }
-
+        Order refundOrder = transaction.findOrder(orderID);
+        if (!transaction.refundOrder(refundOrder)) {
+            transactionUi.printError(Flags.Error.INVALID_REFUND_ORDER_TYPE);
+            return true;
         }
 
-
-        refundOrder.setStatus("REFUNDED");
-        transaction.save();
-
         return false;
     }
 }
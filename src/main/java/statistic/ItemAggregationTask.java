@@ -0,0 +1,44 @@
+package statistic;
+
+import order.Order;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class adds up the item totals of a range of orders on a fork/join pool.
+ * Ranges larger than a chunk are split in half, and the totals of both halves are merged.
+ */
+class ItemAggregationTask extends RecursiveTask<ItemTotals> {
+    private static final int CHUNK_SIZE = 4096;
+
+    private final List<Order> orders;
+    private final int fromIndex;
+    private final int toIndex;
+    private final ItemIndex itemIndex;
+
+    ItemAggregationTask(List<Order> orders, int fromIndex, int toIndex, ItemIndex itemIndex) {
+        this.orders = orders;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+        this.itemIndex = itemIndex;
+    }
+
+    @Override
+    protected ItemTotals compute() {
+        if (toIndex - fromIndex <= CHUNK_SIZE) {
+            ItemTotals itemTotals = new ItemTotals(itemIndex);
+            itemTotals.addOrders(orders, fromIndex, toIndex);
+            return itemTotals;
+        }
+
+        int middleIndex = (fromIndex + toIndex) >>> 1;
+        ItemAggregationTask left = new ItemAggregationTask(orders, fromIndex, middleIndex, itemIndex);
+        ItemAggregationTask right = new ItemAggregationTask(orders, middleIndex, toIndex, itemIndex);
+
+        left.fork();
+        ItemTotals itemTotals = right.compute();
+        itemTotals.merge(left.join());
+        return itemTotals;
+    }
+}
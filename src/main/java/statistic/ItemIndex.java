@@ -0,0 +1,78 @@
+package statistic;
+
+import item.Item;
+import order.OrderEntry;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class gives every item on the menu a position, so that item totals can be kept in arrays.
+ * Order entries are looked up by item ID, in an array indexed by ID.
+ * Entries without an ID, saved before items had IDs, are looked up by item name.
+ */
+class ItemIndex {
+    private static final int NOT_ON_MENU = -1;
+
+    private final Map<String, Integer> positionsByName;
+    private final int[] positionsById;
+
+    /**
+     * Constructs an index of the given items.
+     *
+     * @param items the items on the menu
+     */
+    ItemIndex(List<Item> items) {
+        int maxId = Item.NO_ID;
+        for (Item item : items) {
+            maxId = Math.max(maxId, item.getId());
+        }
+
+        this.positionsByName = new HashMap<>();
+        this.positionsById = new int[maxId + 1];
+        Arrays.fill(positionsById, NOT_ON_MENU);
+
+        for (Item item : items) {
+            positionsByName.putIfAbsent(item.getName(), positionsByName.size());
+            if (item.getId() != Item.NO_ID) {
+                positionsById[item.getId()] = positionsByName.get(item.getName());
+            }
+        }
+    }
+
+    /**
+     * Returns the number of positions in the index.
+     *
+     * @return the number of distinct item names on the menu
+     */
+    int size() {
+        return positionsByName.size();
+    }
+
+    /**
+     * Returns the position of each item, keyed by item name.
+     *
+     * @return the positions of the items
+     */
+    Map<String, Integer> getPositionsByName() {
+        return positionsByName;
+    }
+
+    /**
+     * Returns the position of the item in an order entry.
+     *
+     * @param orderEntry the order entry
+     * @return the position of the item, or -1 if the item is not on the menu
+     */
+    int getPosition(OrderEntry orderEntry) {
+        int itemId = orderEntry.getItemId();
+        if (itemId != Item.NO_ID) {
+            return itemId < positionsById.length ? positionsById[itemId] : NOT_ON_MENU;
+        }
+
+        Integer position = positionsByName.get(orderEntry.getItem().getName());
+        return position == null ? NOT_ON_MENU : position;
+    }
+}
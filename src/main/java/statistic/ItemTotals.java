@@ -0,0 +1,132 @@
+package statistic;
+
+import item.Item;
+import order.Order;
+import order.OrderEntry;
+import utility.Money;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class holds the quantity sold and the sales of every item over a set of orders.
+ * Items on the menu are counted in arrays indexed by their position in the item index,
+ * and any other item found in the orders, such as a deleted item, is counted by name.
+ */
+class ItemTotals {
+    private final ItemIndex itemIndex;
+    private final long[] quantities;
+    private final long[] sales;
+    private final Map<String, Long> otherQuantities;
+    private final Map<String, Long> otherSales;
+
+    /**
+     * Constructs empty totals for the items with the given positions.
+     *
+     * @param itemIndex the position of each menu item
+     */
+    ItemTotals(ItemIndex itemIndex) {
+        this.itemIndex = itemIndex;
+        this.quantities = new long[itemIndex.size()];
+        this.sales = new long[itemIndex.size()];
+        this.otherQuantities = new HashMap<>();
+        this.otherSales = new HashMap<>();
+    }
+
+    /**
+     * Returns the position of each item on the menu.
+     *
+     * @param items the items on the menu
+     * @return the position of each item
+     */
+    static ItemIndex indexItems(List<Item> items) {
+        return new ItemIndex(items);
+    }
+
+    /**
+     * Adds the entries of the completed orders in the given range of the order list.
+     *
+     * @param orders    the order list
+     * @param fromIndex the position of the first order to add
+     * @param toIndex   the position after the last order to add
+     */
+    void addOrders(List<Order> orders, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            Order order = orders.get(i);
+            if (!order.getStatus().equals("COMPLETED")) {
+                continue;
+            }
+
+            for (OrderEntry orderEntry : order.getOrderEntries()) {
+                addEntry(orderEntry);
+            }
+        }
+    }
+
+    /**
+     * Adds the totals of another set of orders to these totals.
+     *
+     * @param other the totals to add
+     */
+    void merge(ItemTotals other) {
+        for (int i = 0; i < quantities.length; i++) {
+            quantities[i] += other.quantities[i];
+            sales[i] += other.sales[i];
+        }
+        for (Map.Entry<String, Long> entry : other.otherQuantities.entrySet()) {
+            otherQuantities.merge(entry.getKey(), entry.getValue(), Long::sum);
+        }
+        for (Map.Entry<String, Long> entry : other.otherSales.entrySet()) {
+            otherSales.merge(entry.getKey(), entry.getValue(), Long::sum);
+        }
+    }
+
+    /**
+     * Returns the quantity sold of every item, including every menu item.
+     *
+     * @return a map of item name to quantity sold
+     */
+    Map<String, Integer> getQuantities() {
+        Map<String, Integer> quantityMap = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : itemIndex.getPositionsByName().entrySet()) {
+            quantityMap.put(entry.getKey(), (int) quantities[entry.getValue()]);
+        }
+        for (Map.Entry<String, Long> entry : otherQuantities.entrySet()) {
+            quantityMap.merge(entry.getKey(), entry.getValue().intValue(), Integer::sum);
+        }
+        return quantityMap;
+    }
+
+    /**
+     * Returns the sales of every item in dollars, including every menu item.
+     *
+     * @return a map of item name to sales
+     */
+    Map<String, Double> getSales() {
+        Map<String, Double> salesMap = new HashMap<>();
+        Map<String, Long> salesInCents = new HashMap<>(otherSales);
+        for (Map.Entry<String, Integer> entry : itemIndex.getPositionsByName().entrySet()) {
+            salesInCents.merge(entry.getKey(), sales[entry.getValue()], Long::sum);
+        }
+        for (Map.Entry<String, Long> entry : salesInCents.entrySet()) {
+            salesMap.put(entry.getKey(), Money.toDollars(entry.getValue()));
+        }
+        return salesMap;
+    }
+
+    private void addEntry(OrderEntry orderEntry) {
+        int quantity = orderEntry.getQuantity();
+        long entrySales = orderEntry.getTotalInCents();
+        int position = itemIndex.getPosition(orderEntry);
+
+        if (position >= 0) {
+            quantities[position] += quantity;
+            sales[position] += entrySales;
+        } else {
+            String name = orderEntry.getItem().getName();
+            otherQuantities.merge(name, (long) quantity, Long::sum);
+            otherSales.merge(name, entrySales, Long::sum);
+        }
+    }
+}
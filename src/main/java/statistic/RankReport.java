@@ -5,21 +5,16 @@ import exception.DuplicateArgumentFoundException;
 import exception.statistic.ConflictFlagException;
 import exception.statistic.StartAfterEndDateException;
 import exception.statistic.TypeNotFoundException;
-import item.Item;
 import item.Menu;
-import order.Order;
-import order.OrderEntry;
 import order.Transaction;
 import ui.Flags;
 import ui.StatisticUi;
-import utility.DateUtils;
-import utility.Parser;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.PriorityQueue;
+import java.util.function.ToDoubleFunction;
 
 /**
  * This class generates a rank report which includes two priority queues sorted by popularity and sales respectively.
@@ -27,9 +22,13 @@ import java.util.PriorityQueue;
  * end date parameters to generate the report for a specific date range.
  */
 public class RankReport extends Statistic {
+    /**
+     * Ranks items with a higher value first, and items with the same value by name.
+     */
+    private static final Comparator<ItemRank> RANK_ORDER = Comparator.comparingDouble(ItemRank::getValue)
+            .reversed().thenComparing(ItemRank::getName);
 
-    private Transaction transaction;
-    private Menu menu;
+    private ReportEngine reportEngine;
 
     /**
      * Constructor for the RankReport class.
@@ -43,18 +42,50 @@ public class RankReport extends Statistic {
     public RankReport(Command command, Transaction transaction, Menu menu)
             throws StartAfterEndDateException, ConflictFlagException, DuplicateArgumentFoundException {
         super(command);
+        this.reportEngine = new ReportEngine(transaction, menu, super.getStartDate(), super.getEndDate());
+        planMetrics(command, reportEngine);
+        printReport(command);
+    }
+
+    /**
+     * Constructor for the RankReport class, using the metrics computed by a report engine.
+     *
+     * @param command      a Command object containing the start and end date range for the report
+     * @param reportEngine the report engine on which the metrics of the rank report have been planned
+     */
+    public RankReport(Command command, ReportEngine reportEngine)
+            throws StartAfterEndDateException, ConflictFlagException, DuplicateArgumentFoundException {
+        super(command);
+        this.reportEngine = reportEngine;
+        printReport(command);
+    }
+
+    /**
+     * Plans the metrics needed by the rank report of the given command.
+     *
+     * @param command      a Command object containing the type of rank report
+     * @param reportEngine the report engine that computes the metrics
+     */
+    public static void planMetrics(Command command, ReportEngine reportEngine) {
+        String type = command.getArgumentMap().get("rank");
+        if ("sales".equals(type)) {
+            reportEngine.plan(ReportEngine.Metric.ITEM_SALES);
+        } else if ("popular".equals(type)) {
+            reportEngine.plan(ReportEngine.Metric.ITEM_QUANTITY);
+        }
+    }
+
+    private void printReport(Command command) {
         StatisticUi ui = new StatisticUi();
-        this.transaction = transaction;
-        this.menu = menu;
 
         try {
             switch (command.getArgumentMap().get("rank")) {
             case "sales":
-                PriorityQueue<ItemRank> salesRank = rankBySales();
+                PriorityQueue<ItemRank> salesRank = rankBySales(getTopLimit(command));
                 ui.printSalesRankingTable(salesRank, super.getStartDate(), super.getEndDate());
                 break;
             case "popular":
-                PriorityQueue<ItemRank> popularityRank = rankByPopularity();
+                PriorityQueue<ItemRank> popularityRank = rankByPopularity(getTopLimit(command));
                 ui.printPopularityRankingTable(popularityRank, super.getStartDate(), super.getEndDate());
                 break;
             default:
@@ -74,35 +105,18 @@ public class RankReport extends Statistic {
      * @return a priority queue of ItemRank objects sorted by popularity
      */
     public PriorityQueue<ItemRank> rankByPopularity() {
-        Map<String, Integer> itemCountMap = new HashMap<>();
-        PriorityQueue<ItemRank> rank = new PriorityQueue<>(Comparator.comparingDouble(ItemRank::getValue).reversed());
-
-        for (Item item : menu.getItems()) {
-            itemCountMap.put(item.getName(), 0);
-        }
-
-        for (Order order : transaction.getOrderList()) {
-
-            LocalDateTime orderDate = order.getDateTime();
-            Boolean isWithinDateRange = DateUtils.isBetween(orderDate, super.getStartDate(), super.getEndDate());
-            Boolean isComplete = order.getStatus().equals("COMPLETED");
-
-            if (isWithinDateRange && isComplete) {
-                for (OrderEntry orderEntry : order.getOrderEntries()) {
-                    Item item = orderEntry.getItem();
-                    int currentCount = itemCountMap.getOrDefault(item.getName(), 0);
-                    int quantityCount = orderEntry.getQuantity();
-
-                    itemCountMap.put(item.getName(), currentCount + quantityCount);
-                }
-            }
-        }
-
-        for (Map.Entry<String, Integer> entry : itemCountMap.entrySet()) {
-            rank.add(new ItemRank(entry.getKey(), entry.getValue()));
-        }
+        return rankByPopularity(Integer.MAX_VALUE);
+    }
 
-        return rank;
+    /**
+     * Generates a priority queue of the most popular ItemRank objects, sorted by popularity.
+     *
+     * @param limit the maximum number of items to rank
+     * @return a priority queue of at most limit ItemRank objects sorted by popularity
+     */
+    public PriorityQueue<ItemRank> rankByPopularity(int limit) {
+        Map<String, Integer> itemQuantities = reportEngine.getItemQuantities();
+        return selectTop(itemQuantities.keySet(), name -> itemQuantities.get(name), limit);
     }
 
     /**
@@ -111,35 +125,57 @@ public class RankReport extends Statistic {
      * @return a priority queue of ItemRank objects representing the ranking of items by sales
      */
     public PriorityQueue<ItemRank> rankBySales() {
-        Map<String, Double> itemSalesMap = new HashMap<>();
-        PriorityQueue<ItemRank> rank = new PriorityQueue<>(Comparator.comparingDouble(ItemRank::getValue).reversed());
-        Parser parser = new Parser();
-
-        for (Item item : menu.getItems()) {
-            itemSalesMap.put(item.getName(), 0.0);
-        }
-
-        for (Order order : transaction.getOrderList()) {
-            for (OrderEntry orderEntry : order.getOrderEntries()) {
-                LocalDateTime orderDate = order.getDateTime();
-                Boolean isWithinDateRange = DateUtils.isBetween(orderDate, super.getStartDate(), super.getEndDate());
-                Boolean isComplete = order.getStatus().equals("COMPLETED");
+        return rankBySales(Integer.MAX_VALUE);
+    }
 
-                if (isWithinDateRange && isComplete) {
-                    Item item = orderEntry.getItem();
-                    double currentSales = itemSalesMap.getOrDefault(item.getName(), 0.0);
-                    double totalSales = orderEntry.getQuantity() * orderEntry.getItem().getPrice();
+    /**
+     * Calculates the ranking of the best selling menu items during a given date range.
+     *
+     * @param limit the maximum number of items to rank
+     * @return a priority queue of at most limit ItemRank objects representing the ranking of items by sales
+     */
+    public PriorityQueue<ItemRank> rankBySales(int limit) {
+        Map<String, Double> itemSales = reportEngine.getItemSales();
+        return selectTop(itemSales.keySet(), name -> itemSales.get(name), limit);
+    }
 
-                    itemSalesMap.put(item.getName(), currentSales + totalSales);
-                }
+    /**
+     * Selects the items with the highest values, keeping no more than limit items in a min-heap at any time.
+     * Items with the same value are ranked by name, so the result does not depend on the order of the items.
+     * This is shared with other views of the rankings, such as the HTTP API, so that they rank items the same way.
+     *
+     * @param names the names of the items
+     * @param value the function giving the value of an item
+     * @param limit the maximum number of items to select
+     * @return a priority queue of the selected ItemRank objects, highest value first
+     */
+    public static PriorityQueue<ItemRank> selectTop(Collection<String> names, ToDoubleFunction<String> value,
+            int limit) {
+        int capacity = Math.max(1, Math.min(limit, names.size()));
+        PriorityQueue<ItemRank> lowestFirst = new PriorityQueue<>(capacity, RANK_ORDER.reversed());
+
+        for (String name : names) {
+            double itemValue = value.applyAsDouble(name);
+            if (lowestFirst.size() < limit) {
+                lowestFirst.add(new ItemRank(name, itemValue));
+            } else if (isRankedHigher(itemValue, name, lowestFirst.peek())) {
+                lowestFirst.poll();
+                lowestFirst.add(new ItemRank(name, itemValue));
             }
         }
 
-        for (Map.Entry<String, Double> entry : itemSalesMap.entrySet()) {
-            rank.add(new ItemRank(entry.getKey(), parser.roundToTwoDecimalPlaces(entry.getValue())));
-        }
-
+        PriorityQueue<ItemRank> rank = new PriorityQueue<>(capacity, RANK_ORDER);
+        rank.addAll(lowestFirst);
         return rank;
+    }
+
+    private static boolean isRankedHigher(double value, String name, ItemRank other) {
+        int comparison = Double.compare(value, other.getValue());
+        return comparison > 0 || (comparison == 0 && name.compareTo(other.getName()) < 0);
+    }
 
+    private int getTopLimit(Command command) {
+        String top = command.getArgumentMap().get("top");
+        return top == null ? Integer.MAX_VALUE : Integer.parseInt(top);
     }
 }
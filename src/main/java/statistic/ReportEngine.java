@@ -0,0 +1,175 @@
+package statistic;
+
+import item.Menu;
+import order.Order;
+import order.SalesRollup;
+import order.Transaction;
+import utility.Money;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The ReportEngine class computes the metrics needed by the reports of a /report command.
+ * The metrics are planned first, and then computed together: the sales metrics are read from the
+ * sales rollup, and the item metrics are computed in a single pass over the orders in the date range.
+ */
+public class ReportEngine {
+    /**
+     * The number of orders in the date range from which the item metrics are computed in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 50000;
+
+    /**
+     * The metrics that a report can ask for.
+     */
+    public enum Metric {
+        TOTAL_SALES,
+        DAILY_SALES,
+        MONTHLY_SALES,
+        ITEM_QUANTITY,
+        ITEM_SALES
+    }
+
+    private Transaction transaction;
+    private Menu menu;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private EnumSet<Metric> plannedMetrics;
+    private EnumSet<Metric> computedMetrics;
+
+    private double totalSales;
+    private Map<LocalDateTime, Double> dailySales;
+    private Map<LocalDateTime, Double> monthlySales;
+    private Map<String, Integer> itemQuantities;
+    private Map<String, Double> itemSales;
+
+    /**
+     * Constructs a ReportEngine over the orders made between the start and end date, both inclusive.
+     *
+     * @param transaction the transaction containing the orders to report on
+     * @param menu        the menu containing the items to report on, or null if no item metrics are needed
+     * @param startDate   the start of the date range
+     * @param endDate     the end of the date range
+     */
+    public ReportEngine(Transaction transaction, Menu menu, LocalDateTime startDate, LocalDateTime endDate) {
+        this.transaction = transaction;
+        this.menu = menu;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.plannedMetrics = EnumSet.noneOf(Metric.class);
+        this.computedMetrics = EnumSet.noneOf(Metric.class);
+    }
+
+    /**
+     * Adds a metric to the ones computed by the next run.
+     *
+     * @param metric the metric to compute
+     */
+    public void plan(Metric metric) {
+        if (!computedMetrics.contains(metric)) {
+            plannedMetrics.add(metric);
+        }
+    }
+
+    /**
+     * Computes every planned metric. The orders in the date range are scanned at most once.
+     */
+    public void run() {
+        SalesRollup salesRollup = transaction.getSalesRollup();
+        LocalDate startDay = startDate.toLocalDate();
+        LocalDate endDay = endDate.toLocalDate();
+
+        if (plannedMetrics.contains(Metric.TOTAL_SALES)) {
+            totalSales = Money.toDollars(salesRollup.getTotalSales(startDay, endDay));
+        }
+        if (plannedMetrics.contains(Metric.DAILY_SALES)) {
+            dailySales = toSalesMap(salesRollup.getDailySales(startDay, endDay));
+        }
+        if (plannedMetrics.contains(Metric.MONTHLY_SALES)) {
+            monthlySales = toSalesMap(salesRollup.getMonthlySales(startDay, endDay));
+        }
+        if (plannedMetrics.contains(Metric.ITEM_QUANTITY) || plannedMetrics.contains(Metric.ITEM_SALES)) {
+            scanItems();
+        }
+
+        computedMetrics.addAll(plannedMetrics);
+        plannedMetrics.clear();
+    }
+
+    public double getTotalSales() {
+        compute(Metric.TOTAL_SALES);
+        return totalSales;
+    }
+
+    public Map<LocalDateTime, Double> getDailySales() {
+        compute(Metric.DAILY_SALES);
+        return dailySales;
+    }
+
+    public Map<LocalDateTime, Double> getMonthlySales() {
+        compute(Metric.MONTHLY_SALES);
+        return monthlySales;
+    }
+
+    public Map<String, Integer> getItemQuantities() {
+        compute(Metric.ITEM_QUANTITY);
+        return itemQuantities;
+    }
+
+    public Map<String, Double> getItemSales() {
+        compute(Metric.ITEM_SALES);
+        return itemSales;
+    }
+
+    /**
+     * Computes the given metric, together with any other planned metric, if it has not been computed yet.
+     *
+     * @param metric the metric that is needed
+     */
+    private void compute(Metric metric) {
+        if (!computedMetrics.contains(metric)) {
+            plan(metric);
+            run();
+        }
+    }
+
+    /**
+     * Goes through the completed orders in the date range once, counting the quantity sold and the sales
+     * of every item. Every item on the menu is included, even if it was not ordered.
+     * Large date ranges are split into chunks that are added up in parallel.
+     */
+    private void scanItems() {
+        List<Order> orders = transaction.getOrdersBetween(startDate, endDate);
+        ItemIndex itemIndex = ItemTotals.indexItems(menu.getItems());
+        ItemTotals itemTotals;
+
+        if (orders.size() >= PARALLEL_THRESHOLD) {
+            itemTotals = ForkJoinPool.commonPool().invoke(
+                    new ItemAggregationTask(orders, 0, orders.size(), itemIndex));
+        } else {
+            itemTotals = new ItemTotals(itemIndex);
+            itemTotals.addOrders(orders, 0, orders.size());
+        }
+
+        if (plannedMetrics.contains(Metric.ITEM_QUANTITY)) {
+            itemQuantities = itemTotals.getQuantities();
+        }
+        if (plannedMetrics.contains(Metric.ITEM_SALES)) {
+            itemSales = itemTotals.getSales();
+        }
+    }
+
+    private Map<LocalDateTime, Double> toSalesMap(Map<LocalDate, Long> salesInCents) {
+        Map<LocalDateTime, Double> salesMap = new HashMap<>();
+        for (Map.Entry<LocalDate, Long> entry : salesInCents.entrySet()) {
+            salesMap.put(entry.getKey().atStartOfDay(), Money.toDollars(entry.getValue()));
+        }
+        return salesMap;
+    }
+}
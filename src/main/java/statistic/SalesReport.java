@@ -6,16 +6,12 @@ import exception.statistic.ConflictFlagException;
 import exception.statistic.MissingYearException;
 import exception.statistic.TypeNotFoundException;
 import exception.statistic.StartAfterEndDateException;
-import order.Order;
 import order.Transaction;
 import ui.Flags;
 import ui.StatisticUi;
-import utility.DateUtils;
-import utility.Parser;
 import validation.statistic.StatisticValidation;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -25,7 +21,7 @@ import java.util.Map;
  */
 public class SalesReport extends Statistic {
 
-    private Transaction transaction;
+    private ReportEngine reportEngine;
 
     /**
      * Constructs a SalesReport object based on a given command and transaction.
@@ -36,8 +32,46 @@ public class SalesReport extends Statistic {
     public SalesReport(Command command, StatisticValidation sv, Transaction transaction)
             throws StartAfterEndDateException, ConflictFlagException, DuplicateArgumentFoundException {
         super(command);
+        this.reportEngine = new ReportEngine(transaction, null, super.getStartDate(), super.getEndDate());
+        planMetrics(command, reportEngine);
+        printReport(command, sv);
+    }
+
+    /**
+     * Constructs a SalesReport object from the metrics computed by a report engine.
+     *
+     * @param command      the command to be used for generating the sales report.
+     * @param reportEngine the report engine on which the metrics of the sales report have been planned.
+     */
+    public SalesReport(Command command, StatisticValidation sv, ReportEngine reportEngine)
+            throws StartAfterEndDateException, ConflictFlagException, DuplicateArgumentFoundException {
+        super(command);
+        this.reportEngine = reportEngine;
+        printReport(command, sv);
+    }
+
+    /**
+     * Plans the metrics needed by the sales report of the given command.
+     *
+     * @param command      the command to be used for generating the sales report.
+     * @param reportEngine the report engine that computes the metrics.
+     */
+    public static void planMetrics(Command command, ReportEngine reportEngine) {
+        String type = command.getArgumentMap().get("sales");
+        if (type == null) {
+            return;
+        }
+
+        reportEngine.plan(ReportEngine.Metric.TOTAL_SALES);
+        if (type.equals("daily")) {
+            reportEngine.plan(ReportEngine.Metric.DAILY_SALES);
+        } else if (type.equals("monthly")) {
+            reportEngine.plan(ReportEngine.Metric.MONTHLY_SALES);
+        }
+    }
+
+    private void printReport(Command command, StatisticValidation sv) {
         StatisticUi ui = new StatisticUi();
-        this.transaction = transaction;
 
         try {
             double totalSales = totalSales();
@@ -70,21 +104,7 @@ public class SalesReport extends Statistic {
      * @return the total sales within the given date range.
      */
     public double totalSales() {
-        double totalSales = 0;
-
-        for (Order order : transaction.getOrderList()) {
-            LocalDateTime orderDate = order.getDateTime();
-
-            Boolean isWithinRange = DateUtils.isBetween(orderDate, super.getStartDate(), super.getEndDate());
-            Boolean isComplete = order.getStatus().equals("COMPLETED");
-
-            if (isWithinRange && isComplete) {
-                totalSales += order.getSubTotal();
-            }
-        }
-
-        Parser parser = new Parser();
-        return parser.roundToTwoDecimalPlaces(totalSales);
+        return reportEngine.getTotalSales();
     }
 
     /**
@@ -94,22 +114,7 @@ public class SalesReport extends Statistic {
      *         and Double values representing the total sales for each day.
      */
     public Map<LocalDateTime, Double> dailySales() {
-        Map<LocalDateTime, Double> dailySalesMap = new HashMap<>();
-
-        for (Order order : transaction.getOrderList()) {
-            LocalDateTime orderDate = order.getDateTime();
-
-            Boolean isWithinDateRange = DateUtils.isBetween(orderDate, super.getStartDate(), super.getEndDate());
-            Boolean isComplete = order.getStatus().equals("COMPLETED");
-
-            if (isWithinDateRange && isComplete) {
-                LocalDateTime startOrderDate = orderDate.toLocalDate().atStartOfDay();
-                double currentTotal = dailySalesMap.getOrDefault(startOrderDate, 0.0);
-                dailySalesMap.put(startOrderDate, currentTotal + order.getSubTotal());
-            }
-        }
-
-        return dailySalesMap;
+        return reportEngine.getDailySales();
     }
 
     /**
@@ -119,21 +124,6 @@ public class SalesReport extends Statistic {
      *         and Double values representing the total sales for each month.
      */
     public Map<LocalDateTime, Double> monthlySales() {
-        Map<LocalDateTime, Double> monthlySalesMap = new HashMap<>();
-
-        for (Order order : transaction.getOrderList()) {
-            LocalDateTime orderDate = order.getDateTime();
-
-            Boolean isWithinDateRange = DateUtils.isBetween(orderDate, super.getStartDate(), super.getEndDate());
-            Boolean isComplete = order.getStatus().equals("COMPLETED");
-
-            if (isWithinDateRange && isComplete) {
-                LocalDateTime orderMonth = DateUtils.getStartOfMonth(orderDate);
-                double currentTotal = monthlySalesMap.getOrDefault(orderMonth, 0.0);
-                monthlySalesMap.put(orderMonth, currentTotal + order.getSubTotal());
-            }
-        }
-
-        return monthlySalesMap;
+        return reportEngine.getMonthlySales();
     }
 }
@@ -3,6 +3,7 @@ package statistic;
 import app.Command;
 import exception.DuplicateArgumentFoundException;
 import exception.statistic.ConflictFlagException;
+import exception.statistic.InvalidTopException;
 import exception.statistic.MissingRequiredFlagException;
 import exception.statistic.StartAfterEndDateException;
 import item.Menu;
@@ -76,12 +77,27 @@ public class Statistic {
 
         try {
             sv.validateRequiredFlag();
+            sv.validateTop();
 
-            if (command.getArgumentMap().containsKey("rank")) {
-                new RankReport(command, transactions, menu);
+            boolean isRankReport = command.getArgumentMap().containsKey("rank");
+            boolean isSalesReport = command.getArgumentMap().containsKey("sales");
+
+            Statistic statistic = new Statistic(command);
+            ReportEngine reportEngine = new ReportEngine(transactions, menu,
+                    statistic.getStartDate(), statistic.getEndDate());
+            if (isRankReport) {
+                RankReport.planMetrics(command, reportEngine);
+            }
+            if (isSalesReport) {
+                SalesReport.planMetrics(command, reportEngine);
+            }
+            reportEngine.run();
+
+            if (isRankReport) {
+                new RankReport(command, reportEngine);
             }
-            if (command.getArgumentMap().containsKey("sales")) {
-                new SalesReport(command, sv, transactions);
+            if (isSalesReport) {
+                new SalesReport(command, sv, reportEngine);
             }
 
         } catch (NumberFormatException e) {
@@ -94,6 +110,8 @@ public class Statistic {
             ui.printError(Flags.Error.CONFLICT_FLAG);
         } catch (MissingRequiredFlagException e) {
             ui.printError(Flags.Error.REQUIRED_FLAG_MISSING);
+        } catch (InvalidTopException e) {
+            ui.printError(Flags.Error.INVALID_TOP_FORMAT);
         }
     }
 
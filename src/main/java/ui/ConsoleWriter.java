@@ -0,0 +1,57 @@
+package ui;
+
+import java.io.Writer;
+
+/**
+ * The ConsoleWriter class collects the text printed by the Ui classes and writes it to the standard output
+ * in one go when flushed, instead of one line at a time. The text is written through System.out,
+ * so that it is encoded the same way as text printed directly to the standard output.
+ */
+class ConsoleWriter extends Writer {
+    /**
+     * The number of characters collected after which the text is written even if it has not been flushed.
+     */
+    private static final int FLUSH_THRESHOLD = 1 << 16;
+
+    private final StringBuilder buffer;
+
+    ConsoleWriter() {
+        this.buffer = new StringBuilder();
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) {
+        synchronized (lock) {
+            buffer.append(chars, offset, length);
+            if (buffer.length() >= FLUSH_THRESHOLD) {
+                flush();
+            }
+        }
+    }
+
+    @Override
+    public void write(String text, int offset, int length) {
+        synchronized (lock) {
+            buffer.append(text, offset, offset + length);
+            if (buffer.length() >= FLUSH_THRESHOLD) {
+                flush();
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+        synchronized (lock) {
+            if (buffer.length() > 0) {
+                System.out.print(buffer);
+                buffer.setLength(0);
+            }
+            System.out.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+}
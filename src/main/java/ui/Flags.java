@@ -37,6 +37,7 @@ public class Flags {
         YEAR_NOT_FOUND,
         TYPE_NOT_SPECIFIED,
         TYPE_NOT_FOUND,
+        INVALID_TOP_FORMAT,
         MISSING_ORDER_FLAG_ARGUMENT,
         MISSING_QUANTITY_FLAG_ARGUMENT,
         INVALID_ORDER_ITEM_INDEX_FORMAT,
@@ -64,6 +65,20 @@ public class Flags {
         INVALID_REFUND_ORDER_ID,
         INVALID_REFUND_ORDER_TYPE,
         UNRECOGNISED_COMMAND_ERROR,
-        DUPLICATE_ARGUMENT_FOUND
+        DUPLICATE_ARGUMENT_FOUND,
+        INVALID_FSYNC_POLICY,
+        SCRIPT_NOT_FOUND,
+        INVALID_FLUSH_INTERVAL,
+        SCRIPT_ENDED_EARLY,
+        INVALID_PORT,
+        SERVER_NOT_STARTED,
+        INVALID_HTTP_PORT,
+        INVALID_REQUEST_BODY,
+        INVALID_REQUEST_VALUE,
+        RESOURCE_NOT_FOUND,
+        ORDER_NOT_FOUND,
+        METHOD_NOT_ALLOWED,
+        INVALID_STORAGE_FORMAT,
+        CHANGES_NOT_SAVED
     }
 }
@@ -22,12 +22,12 @@ public class StatisticUi extends Ui {
     public void printDailyBarChartHeader(LocalDateTime startDate, LocalDateTime endDate, double totalSales) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
-        System.out.println("| " + "-".repeat(131) + " |");
-        System.out.printf("| %-131s |\n", "Daily statistic for the date range "
+        getOutput().println("| " + "-".repeat(131) + " |");
+        getOutput().printf("| %-131s |\n", "Daily statistic for the date range "
                 + startDate.format(formatter) + " - " + endDate.format(formatter));
-        System.out.printf("| Total sales: $%-117.2f |\n", totalSales);
-        System.out.println("| " + "-".repeat(131) + " |");
-        System.out.printf("| %-12s | %-13s | %-100s |\n", "Date", "Sales($)", "Performance");
+        getOutput().printf("| Total sales: $%-117.2f |\n", totalSales);
+        getOutput().println("| " + "-".repeat(131) + " |");
+        getOutput().printf("| %-12s | %-13s | %-100s |\n", "Date", "Sales($)", "Performance");
     }
 
     /**
@@ -43,13 +43,13 @@ public class StatisticUi extends Ui {
 
         String formattedDate = indexDate.format(formatter);
 
-        System.out.println("| " + "-".repeat(12) + " | "
+        getOutput().println("| " + "-".repeat(12) + " | "
                 + "-".repeat(13) + " | " + "-".repeat(100) + " |");
-        System.out.printf("| %-12s | %-13.2f | %-100s |\n", formattedDate, value, "|".repeat(numOfBars));
+        getOutput().printf("| %-12s | %-13.2f | %-100s |\n", formattedDate, value, "|".repeat(numOfBars));
     }
 
     public void printBarChartFooter() {
-        System.out.println("| " + "-".repeat(131) + " |");
+        getOutput().println("| " + "-".repeat(131) + " |");
     }
 
     /**
@@ -59,11 +59,11 @@ public class StatisticUi extends Ui {
      * @param totalSales The total sales for the year.
      */
     public void printMonthlyChartHeader(int year, double totalSales) {
-        System.out.println("| " + "-".repeat(131) + " |");
-        System.out.printf("| %-131s |\n", "Monthly statistic for the year " + year);
-        System.out.printf("| Total sales: $%-117.2f |\n", totalSales);
-        System.out.println("| " + "-".repeat(131) + " |");
-        System.out.printf("| %-10s | %-15s | %-100s |\n", "Month", "Sales($)", "Performance");
+        getOutput().println("| " + "-".repeat(131) + " |");
+        getOutput().printf("| %-131s |\n", "Monthly statistic for the year " + year);
+        getOutput().printf("| Total sales: $%-117.2f |\n", totalSales);
+        getOutput().println("| " + "-".repeat(131) + " |");
+        getOutput().printf("| %-10s | %-15s | %-100s |\n", "Month", "Sales($)", "Performance");
     }
 
     /**
@@ -78,9 +78,9 @@ public class StatisticUi extends Ui {
 
         String formattedDate = indexDate.format(formatter);
 
-        System.out.println("| " + "-".repeat(10) + " | "
+        getOutput().println("| " + "-".repeat(10) + " | "
                 + "-".repeat(15) + " | " + "-".repeat(100) + " |");
-        System.out.printf("| %-10s | %-15.2f | %-100s |\n", formattedDate, value, "|".repeat(numOfBars));
+        getOutput().printf("| %-10s | %-15.2f | %-100s |\n", formattedDate, value, "|".repeat(numOfBars));
 
     }
 
@@ -96,23 +96,23 @@ public class StatisticUi extends Ui {
                                             LocalDateTime startDate, LocalDateTime endDate) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
-        System.out.println("| " + "-".repeat(41) + " |");
-        System.out.println("|" + " Rank by quantity sold" + " ".repeat(21) + "|");
-        System.out.printf("| %-41s |\n", "Date: " + startDate.format(formatter) + " - " + endDate.format(formatter));
-        System.out.println("| " + "-".repeat(41) + " |");
-        System.out.printf("| %-5s | %-25s | %-5s |\n", "Rank", "Name", "Count");
-        System.out.println("| " + "-".repeat(5) + " | "
+        getOutput().println("| " + "-".repeat(41) + " |");
+        getOutput().println("|" + " Rank by quantity sold" + " ".repeat(21) + "|");
+        getOutput().printf("| %-41s |\n", "Date: " + startDate.format(formatter) + " - " + endDate.format(formatter));
+        getOutput().println("| " + "-".repeat(41) + " |");
+        getOutput().printf("| %-5s | %-25s | %-5s |\n", "Rank", "Name", "Count");
+        getOutput().println("| " + "-".repeat(5) + " | "
                 + "-".repeat(25) + " | " + "-".repeat(5) + " |");
 
         int index = 1;
 
         while (!rank.isEmpty()) {
             ItemRank element = rank.poll();
-            System.out.printf("| %-5d | %-25s | %-5d |\n", index, element.getName(), (int) element.getValue());
+            getOutput().printf("| %-5d | %-25s | %-5d |\n", index, element.getName(), (int) element.getValue());
             index++;
         }
 
-        System.out.println("| " + "-".repeat(41) + " |\n");
+        getOutput().println("| " + "-".repeat(41) + " |\n");
     }
 
     /**
@@ -126,66 +126,68 @@ public class StatisticUi extends Ui {
     public void printSalesRankingTable(PriorityQueue<ItemRank> rank, LocalDateTime startDate, LocalDateTime endDate) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
-        System.out.println("| " + "-".repeat(46) + " |");
-        System.out.println("|" + " Rank by sales" + " ".repeat(34) + "|");
-        System.out.printf("| %-46s |\n", "Date: " + startDate.format(formatter) + " - " + endDate.format(formatter));
-        System.out.println("| " + "-".repeat(46) + " |");
-        System.out.printf("| %-5s | %-25s | %-10s |\n", "Rank", "Name", "Sales($)");
-        System.out.println("| " + "-".repeat(5) + " | "
+        getOutput().println("| " + "-".repeat(46) + " |");
+        getOutput().println("|" + " Rank by sales" + " ".repeat(34) + "|");
+        getOutput().printf("| %-46s |\n", "Date: " + startDate.format(formatter) + " - " + endDate.format(formatter));
+        getOutput().println("| " + "-".repeat(46) + " |");
+        getOutput().printf("| %-5s | %-25s | %-10s |\n", "Rank", "Name", "Sales($)");
+        getOutput().println("| " + "-".repeat(5) + " | "
                 + "-".repeat(25) + " | " + "-".repeat(10) + " |");
 
         int index = 1;
 
         while (!rank.isEmpty()) {
             ItemRank element = rank.poll();
-            System.out.printf("| %-5d | %-25s | %-10.2f |\n", index, element.getName(), element.getValue());
+            getOutput().printf("| %-5d | %-25s | %-10.2f |\n", index, element.getName(), element.getValue());
             index++;
         }
 
-        System.out.println("| " + "-".repeat(46) + " |\n");
+        getOutput().println("| " + "-".repeat(46) + " |\n");
     }
 
     @Override
     public void printError(Flags.Error error) {
-        System.out.print("Error: ");
+        getOutput().print("Error: ");
         switch (error) {
         case DOUBLE_OVERFLOW:
-            System.out.println("\tDouble overflow! Please enter a double within the valid range.");
+            getOutput().println("\tDouble overflow! Please enter a double within the valid range.");
             break;
         case INTEGER_OVERFLOW:
-            System.out.println("\tInteger overflow! Please enter an integer within the valid range.");
+            getOutput().println("\tInteger overflow! Please enter an integer within the valid range.");
             break;
         case REQUIRED_FLAG_MISSING:
-            System.out.println("\tState the type of report to generate by using [-r|--rank] or [-s|--sales] " +
+            getOutput().println("\tState the type of report to generate by using [-r|--rank] or [-s|--sales] " +
                     "options follow by the <type>");
-            System.out.println("\t\tState the date range by using [-y|--year] or [-f|--from] and [-t|--to] options");
+            getOutput().println("\t\tState the date range by using [-y|--year] or [-f|--from] and [-t|--to] options");
             break;
         case CONFLICT_FLAG:
-            System.out.println("\t[-y|--year] option cannot work with [-f|--from] or [-t|--to] options");
-            System.out.println("\t\t[-r|--rank] option cannot work with [-s|--sales] option");
+            getOutput().println("\t[-y|--year] option cannot work with [-f|--from] or [-t|--to] options");
             break;
         case DATE_RANGE_INVALID:
-            System.out.println("\tDate specified in [-f|--from] is later than date specified in [-t|--to]");
+            getOutput().println("\tDate specified in [-f|--from] is later than date specified in [-t|--to]");
             break;
         case INVALID_DATE_FORMAT:
-            System.out.println("\tDate format provided in [-f|--from] and/or [-t|--to] is/are not recognised");
+            getOutput().println("\tDate format provided in [-f|--from] and/or [-t|--to] is/are not recognised");
             break;
         case INVALID_YEAR_FORMAT:
-            System.out.println("\tYear format provided in [-y|--year] is/are not recognised");
+            getOutput().println("\tYear format provided in [-y|--year] is/are not recognised");
             break;
         case YEAR_NOT_FOUND:
-            System.out.println("\tUse the [-y|--year] option instead of [-f|--from] and [-t|--to] " +
+            getOutput().println("\tUse the [-y|--year] option instead of [-f|--from] and [-t|--to] " +
                     "for monthly sales report");
             break;
         case TYPE_NOT_SPECIFIED:
-            System.out.println("\tReport type not specified, " +
+            getOutput().println("\tReport type not specified, " +
                     "use [-r|--rank] or [-s|--sales] options follow by the <type>");
             break;
         case TYPE_NOT_FOUND:
-            System.out.println("\tReport type specified in [-r|--rank] or [-s|--sales] options not recognised");
+            getOutput().println("\tReport type specified in [-r|--rank] or [-s|--sales] options not recognised");
+            break;
+        case INVALID_TOP_FORMAT:
+            getOutput().println("\tNumber of items provided in [--top] must be a positive integer");
             break;
         default:
-            System.out.println("Error flag not recognised");
+            getOutput().println("Error flag not recognised");
         }
     }
 }
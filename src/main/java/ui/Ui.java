@@ -1,45 +1,156 @@
 package ui;
 
 import app.Command;
+import app.ApiServer;
+import app.TerminalServer;
 import exception.UnrecognisedCommandException;
 import validation.Validation;
 
-import java.util.Scanner;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.NoSuchElementException;
 
 public class Ui {
+    /**
+     * The output shared by the Ui classes. Text printed to it is collected and written once per command,
+     * before input is read, and when the application exits.
+     */
+    private static final PrintWriter CONSOLE = new PrintWriter(new ConsoleWriter(), false);
+
+    /**
+     * The output that discards everything printed to it, used by quiet runs.
+     */
+    private static final PrintWriter QUIET = new PrintWriter(Writer.nullWriter());
+
+    /**
+     * The output of each thread, so that a thread can print somewhere other than the console.
+     */
+    private static final ThreadLocal<PrintWriter> OUTPUT = ThreadLocal.withInitial(() -> CONSOLE);
+
+    /**
+     * The reader of the standard input, shared by every Ui so that input buffered by one is not lost to the others.
+     */
+    private static final BufferedReader CONSOLE_INPUT = new BufferedReader(new InputStreamReader(System.in));
+
+    /**
+     * The input of each thread, so that a thread can read from somewhere other than the standard input.
+     */
+    private static final ThreadLocal<BufferedReader> INPUT = ThreadLocal.withInitial(() -> CONSOLE_INPUT);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(CONSOLE::flush));
+    }
+
+    /**
+     * Sets where the current thread reads user input from, such as a script of commands.
+     *
+     * @param reader the reader of user input
+     */
+    public static void setInput(BufferedReader reader) {
+        INPUT.set(reader);
+    }
+
+    /**
+     * Makes the current thread read from the standard input and print to the console again.
+     */
+    public static void resetStreams() {
+        INPUT.remove();
+        OUTPUT.remove();
+    }
+
+    /**
+     * Returns the output that the current thread prints to.
+     *
+     * @return the output of the current thread
+     */
+    public static PrintWriter getOutput() {
+        return OUTPUT.get();
+    }
+
+    /**
+     * Sets the output that the current thread prints to.
+     *
+     * @param output the output of the current thread
+     */
+    public static void setOutput(PrintWriter output) {
+        OUTPUT.set(output);
+    }
+
+    /**
+     * Sets whether the current thread discards what it prints, such as for a script that is run quietly.
+     *
+     * @param isQuiet true to discard what is printed, or false to print to the console
+     */
+    public static void setQuiet(boolean isQuiet) {
+        OUTPUT.set(isQuiet ? QUIET : CONSOLE);
+    }
+
+    /**
+     * Writes out everything the current thread has printed so far.
+     */
+    public static void flushOutput() {
+        OUTPUT.get().flush();
+    }
 
     public void printWelcomeMessage() {
-        System.out.println("░█▀▄▀█ █▀▀█ █▀▀▄ █▀▀ █──█ ░█▀▀█ █▀▀█ ░█──░█ █──█ █▀▀ █▀▀█ █▀▀\n" +
+        getOutput().println("░█▀▄▀█ █▀▀█ █▀▀▄ █▀▀ █──█ ░█▀▀█ █▀▀█ ░█──░█ █──█ █▀▀ █▀▀█ █▀▀\n" +
                 "░█░█░█ █──█ █──█ █▀▀ █▄▄█ ░█─▄▄ █──█ ░█░█░█ █▀▀█ █▀▀ █▄▄▀ █▀▀\n" +
                 "░█──░█ ▀▀▀▀ ▀──▀ ▀▀▀ ▄▄▄█ ░█▄▄█ ▀▀▀▀ ░█▄▀▄█ ▀──▀ ▀▀▀ ▀─▀▀ ▀▀▀");
-        System.out.println("Welcome to MoneyGoWhere!");
-        System.out.println("To begin, you may enter \"help\" to see a list of commands.\n");
+        getOutput().println("Welcome to MoneyGoWhere!");
+        getOutput().println("To begin, you may enter \"help\" to see a list of commands.\n");
     }
 
     public void promptUserInput() {
-        System.out.println("Please enter a command:");
+        getOutput().println("Please enter a command:");
     }
 
+    /**
+     * Reads the next line of user input.
+     *
+     * @return the trimmed line
+     * @throws NoSuchElementException if there is no more input
+     */
     public String inputHandler() {
-        Scanner scanner = new Scanner(System.in);
-        String userInput = scanner.nextLine().trim();
+        String userInput = readLine();
+        if (userInput == null) {
+            throw new NoSuchElementException("No line found");
+        }
         return userInput;
     }
 
+    /**
+     * Reads the next line of user input, or null once there is no more input.
+     *
+     * @return the trimmed line, or null if there is no more input
+     */
+    public String readLine() {
+        flushOutput();
+        try {
+            String userInput = INPUT.get().readLine();
+            return userInput == null ? null : userInput.trim();
+        } catch (IOException e) {
+            getOutput().println(e.getMessage());
+            return null;
+        }
+    }
+
     public void printInvalidCommand(String command) {
-        System.out.println("\nThe command: " + command + " is not a valid command.\n");
+        getOutput().println("\nThe command: " + command + " is not a valid command.\n");
     }
 
     public void printCommandSuccess(String command) {
-        System.out.println("\nThe command: " + command + " was successfully executed!\n");
+        getOutput().println("\nThe command: " + command + " was successfully executed!\n");
     }
 
     public void printCommandCancelled(String command) {
-        System.out.println("\nThe command: " + command + " has been cancelled.\n");
+        getOutput().println("\nThe command: " + command + " has been cancelled.\n");
     }
 
     public void printAssistedHelp() {
-        System.out.println("\nThere are 10 commands you can use as a new user in MoneyGoWhere.\n" +
+        getOutput().println("\nThere are 10 commands you can use as a new user in MoneyGoWhere.\n" +
                 "For more details, please refer to the User Guide.\n" +
                 "0. help\n" +
                 "1. additem\n" +
@@ -64,7 +175,7 @@ public class Ui {
             return;
         }
 
-        System.out.println("\nThere are 10 commands you can use as an experienced user in MoneyGoWhere.\n" +
+        getOutput().println("\nThere are 10 commands you can use as an experienced user in MoneyGoWhere.\n" +
                 "For more details, please refer to the User Guide.\n" +
                 "0.  /help\n" +
                 "1.  /additem -n \"<name>\" -p <price>\n" +
@@ -80,31 +191,104 @@ public class Ui {
                 "To see commands for new users, use `help`.\n");
     }
 
+    /**
+     * Prints how many commands a script ran, and how fast.
+     *
+     * @param commandCount  the number of commands run
+     * @param elapsedMillis the time taken to run the script and save the data
+     */
+    public void printScriptSummary(int commandCount, long elapsedMillis) {
+        double commandsPerSecond = commandCount * 1000.0 / Math.max(1, elapsedMillis);
+        getOutput().printf("%nRan %d commands in %d ms (%.1f commands/s).%n",
+                commandCount, elapsedMillis, commandsPerSecond);
+    }
+
+    /**
+     * Prints the port that terminals can connect to.
+     *
+     * @param port the port the server is listening on
+     */
+    public void printServerStarted(int port) {
+        getOutput().println("MoneyGoWhere is serving terminals on localhost port " + port + ".");
+        getOutput().println("Press Ctrl+C to stop the server. The order list is saved when it stops.");
+    }
+
+    /**
+     * Prints the address at which the HTTP API can be reached.
+     *
+     * @param port the port the HTTP API is listening on
+     */
+    public void printApiStarted(int port) {
+        getOutput().println("MoneyGoWhere is serving the HTTP API at http://localhost:" + port + "/.");
+    }
+
     public void printExit() {
-        System.out.println("\nThank you for using MoneyGoWhere. Goodbye!");
+        getOutput().println("\nThank you for using MoneyGoWhere. Goodbye!");
     }
 
 
     public void printError(Flags.Error error) {
-        System.out.print("Error: ");
+        getOutput().print("Error: ");
         switch (error) {
         case EMPTY_INPUT:
-            System.out.println("Input is empty. Please enter something.");
+            getOutput().println("Input is empty. Please enter something.");
             break;
         case DOUBLE_OVERFLOW:
-            System.out.println("Double overflow! Please enter a double within the valid range.");
+            getOutput().println("Double overflow! Please enter a double within the valid range.");
             break;
         case INTEGER_OVERFLOW:
-            System.out.println("Integer overflow! Please enter an integer within the valid range.");
+            getOutput().println("Integer overflow! Please enter an integer within the valid range.");
             break;
         case INVALID_INDEX:
-            System.out.println("Please enter a valid index!");
+            getOutput().println("Please enter a valid index!");
             break;
         case UNRECOGNISED_COMMAND_ERROR:
-            System.out.println("This command is not recognised.");
+            getOutput().println("This command is not recognised.");
             break;
         case DUPLICATE_ARGUMENT_FOUND:
-            System.out.println("Multiple options found. Please enter a valid command.");
+            getOutput().println("Multiple options found. Please enter a valid command.");
+            break;
+        case INVALID_FSYNC_POLICY:
+            getOutput().println("Fsync policy must be always, exit or a number of milliseconds. Using always.");
+            break;
+        case SCRIPT_NOT_FOUND:
+            getOutput().println("The script could not be opened.");
+            break;
+        case INVALID_FLUSH_INTERVAL:
+            getOutput().println("Flush interval must be a positive number of commands. Saving at the end only.");
+            break;
+        case SCRIPT_ENDED_EARLY:
+            getOutput().println("The script ended while a command was waiting for input.");
+            break;
+        case INVALID_PORT:
+            getOutput().println("Port must be a number from 0 to 65535. Using " + TerminalServer.DEFAULT_PORT + ".");
+            break;
+        case SERVER_NOT_STARTED:
+            getOutput().println("The server could not listen on the port. It may be in use by another program.");
+            break;
+        case INVALID_HTTP_PORT:
+            getOutput().println("Port must be a number from 0 to 65535. Using " + ApiServer.DEFAULT_PORT + ".");
+            break;
+        case INVALID_REQUEST_BODY:
+            getOutput().println("The request body must be a JSON object.");
+            break;
+        case INVALID_REQUEST_VALUE:
+            getOutput().println("A value in the request cannot be used, such as a name with a double quote in it.");
+            break;
+        case RESOURCE_NOT_FOUND:
+            getOutput().println("There is no such resource.");
+            break;
+        case ORDER_NOT_FOUND:
+            getOutput().println("There is no order with this ID.");
+            break;
+        case METHOD_NOT_ALLOWED:
+            getOutput().println("The resource does not support this method.");
+            break;
+        case INVALID_STORAGE_FORMAT:
+            getOutput().println("Storage format must be json or binary. Using json.");
+            break;
+        case CHANGES_NOT_SAVED:
+            getOutput().println("Some changes could not be saved to the data files.");
             break;
         default:
             // Fallthrough
@@ -0,0 +1,216 @@
+package utility;
+
+import ui.Ui;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.Timer;
+import java.util.TimerTask;
+
+/**
+ * This class decides when data written to local files is forced to the storage device.
+ * Forcing on every write is the safest, while forcing every few milliseconds or only on exit
+ * trades durability of the latest writes for throughput.
+ * <p>
+ * Checkpoints ignore the policy. Once a data file has been saved in full, the journal of changes to it is
+ * cleared, and the journal is the only other copy of those changes, so the saved file is forced with
+ * {@link #forceNow(Path)} before the journal is cleared, whatever the mode.
+ */
+public class FsyncPolicy {
+
+    /**
+     * The ways in which writes can be forced to the storage device.
+     */
+    public enum Mode {
+        ALWAYS,
+        INTERVAL,
+        EXIT
+    }
+
+    private static FsyncPolicy policy = new FsyncPolicy(Mode.ALWAYS, 0);
+
+    private final Mode mode;
+    private final long intervalMillis;
+    private final Set<Path> pendingPaths;
+    private final Set<Path> pendingDirectories;
+    private long lastSyncMillis;
+    private Timer timer;
+    private boolean isSyncScheduled;
+
+    /**
+     * Constructs a new FsyncPolicy.
+     *
+     * @param mode           the way in which writes are forced
+     * @param intervalMillis the minimum time between forced writes, used only by the INTERVAL mode
+     */
+    public FsyncPolicy(Mode mode, long intervalMillis) {
+        this.mode = mode;
+        this.intervalMillis = intervalMillis;
+        this.pendingPaths = new LinkedHashSet<>();
+        this.pendingDirectories = new LinkedHashSet<>();
+        this.lastSyncMillis = 0;
+    }
+
+    /**
+     * Creates a policy from its text form: "always", "exit", or a number of milliseconds between forced writes.
+     *
+     * @param value the text form of the policy
+     * @return the policy described by the text
+     * @throws IllegalArgumentException if the text does not describe a policy
+     */
+    public static FsyncPolicy parse(String value) throws IllegalArgumentException {
+        if (value == null) {
+            throw new IllegalArgumentException();
+        }
+
+        switch (value.trim().toLowerCase()) {
+        case "always":
+            return new FsyncPolicy(Mode.ALWAYS, 0);
+        case "exit":
+            return new FsyncPolicy(Mode.EXIT, 0);
+        default:
+            long intervalMillis = Long.parseLong(value.trim().replaceFirst("ms$", ""));
+            if (intervalMillis < 0) {
+                throw new IllegalArgumentException();
+            }
+            return new FsyncPolicy(Mode.INTERVAL, intervalMillis);
+        }
+    }
+
+    public static FsyncPolicy getPolicy() {
+        return policy;
+    }
+
+    public static void setPolicy(FsyncPolicy newPolicy) {
+        policy = newPolicy;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Forces the data written through the channel to the storage device if the policy requires it now.
+     * Otherwise, the file is remembered so that it can be forced later.
+     *
+     * @param channel the channel the data was written through
+     * @param path    the path the file will be found at after the write completes
+     * @return true if the data was forced to the storage device
+     * @throws IOException if an I/O error occurs while forcing the data
+     */
+    public synchronized boolean sync(FileChannel channel, Path path) throws IOException {
+        long now = System.currentTimeMillis();
+        boolean isDue = mode == Mode.ALWAYS || (mode == Mode.INTERVAL && now - lastSyncMillis >= intervalMillis);
+
+        if (!isDue) {
+            pendingPaths.add(path);
+            scheduleSync();
+            return false;
+        }
+
+        channel.force(true);
+        pendingPaths.remove(path);
+        syncPending();
+        lastSyncMillis = now;
+        return true;
+    }
+
+    /**
+     * Forces every file that was written but not yet forced to the storage device, followed by every directory
+     * with a rename in it that was not yet forced. This is called on exit, and periodically when the INTERVAL mode
+     * is used.
+     *
+     * @throws IOException if an I/O error occurs while forcing a file
+     */
+    public synchronized void syncPending() throws IOException {
+        for (Path path : pendingPaths) {
+            if (!path.toFile().exists()) {
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+        }
+        pendingPaths.clear();
+
+        for (Path directory : pendingDirectories) {
+            forceDirectory(directory);
+        }
+        pendingDirectories.clear();
+        lastSyncMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Forces a file and the directory entry for it to the storage device straight away, whatever the mode.
+     * Other files waiting to be forced are left to the policy.
+     *
+     * @param path the path of the file
+     * @throws IOException if an I/O error occurs while forcing the file
+     */
+    public synchronized void forceNow(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        pendingPaths.remove(path);
+
+        Path directory = path.toAbsolutePath().getParent();
+        forceDirectory(directory);
+        pendingDirectories.remove(directory);
+    }
+
+    /**
+     * Forces the directory entries of the given directory if the policy requires it now, so that a completed
+     * rename survives a crash. Otherwise, the directory is remembered so that it is forced with the pending files.
+     *
+     * @param directory the directory containing the renamed file
+     */
+    public synchronized void syncDirectory(Path directory) {
+        if (mode != Mode.ALWAYS) {
+            pendingDirectories.add(directory);
+            scheduleSync();
+            return;
+        }
+        forceDirectory(directory);
+    }
+
+    /**
+     * Forces the directory entries of a directory. Not every platform allows a directory to be opened,
+     * in which case nothing is done.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be forced on this platform
+        }
+    }
+
+    private void scheduleSync() {
+        if (mode != Mode.INTERVAL || isSyncScheduled) {
+            return;
+        }
+
+        if (timer == null) {
+            timer = new Timer(true);
+        }
+        isSyncScheduled = true;
+        timer.schedule(new TimerTask() {
+            @Override
+            public void run() {
+                synchronized (FsyncPolicy.this) {
+                    isSyncScheduled = false;
+                    try {
+                        syncPending();
+                    } catch (IOException e) {
+                        Ui.getOutput().println(e.getMessage());
+                        Ui.flushOutput();
+                    }
+                }
+            }
+        }, intervalMillis);
+    }
+}
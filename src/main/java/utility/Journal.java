@@ -0,0 +1,134 @@
+package utility;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.JsonParseException;
+
+/**
+ * This class provides an append-only log of records that is kept next to a data file.
+ * Each record is written as a single line of JSON, so a change can be persisted
+ * without rewriting the whole data file.
+ */
+public class Journal {
+    private static final String STORE_DIR_PATH = "./datastore";
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private Path journalFilePath;
+    private int recordCount;
+
+    /**
+     * Constructs a new Journal for the specified data file.
+     *
+     * @param fileName the name of the data file the journal belongs to
+     */
+    public Journal(String fileName) {
+        this(STORE_DIR_PATH, fileName);
+    }
+
+    public Journal(String dirName, String fileName) {
+        String journalName = fileName.replaceFirst("\\.json$", "") + JOURNAL_EXTENSION;
+        this.journalFilePath = Paths.get(dirName, journalName);
+        this.recordCount = 0;
+    }
+
+    /**
+     * Appends a single record to the end of the journal.
+     * The record is forced to the storage device according to the FsyncPolicy.
+     *
+     * @param record the record to be appended
+     * @throws IOException if an I/O error occurs while writing the record
+     */
+    public void append(Object record) throws IOException {
+        appendAll(List.of(record));
+    }
+
+    /**
+     * Appends several records to the end of the journal in a single write, in the given order.
+     * The records are forced to the storage device together, according to the FsyncPolicy.
+     *
+     * @param records the records to be appended
+     * @throws IOException if an I/O error occurs while writing the records
+     */
+    public void appendAll(List<?> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        Files.createDirectories(journalFilePath.getParent());
+        Parser parser = new Parser();
+        StringBuilder lines = new StringBuilder();
+        for (Object record : records) {
+            lines.append(parser.jsonStringifyCompact(record)).append("\n");
+        }
+
+        try (FileChannel channel = FileChannel.open(journalFilePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            FsyncPolicy.getPolicy().sync(channel, journalFilePath);
+        }
+        recordCount += records.size();
+    }
+
+    /**
+     * Loads all records in the journal, in the order they were appended.
+     * The journal is read as UTF-8, the encoding it is written in, whatever the platform default is.
+     * Reading stops at the first malformed line, which is what a write interrupted by a crash leaves behind.
+     *
+     * @param type the Type of each record
+     * @return the records in the journal, or an empty list if there is no journal
+     * @throws IOException if an I/O error occurs while reading the journal
+     */
+    public <T> ArrayList<T> load(Type type) throws IOException {
+        ArrayList<T> records = new ArrayList<>();
+        Parser parser = new Parser();
+
+        try (BufferedReader br = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                T record = parser.jsonParse(line, type);
+                records.add(record);
+            }
+        } catch (NoSuchFileException | CharacterCodingException | JsonParseException e) {
+            return records;
+        }
+
+        return records;
+    }
+
+    /**
+     * Removes every record from the journal. This is done once the records are covered by a full save.
+     *
+     * @throws IOException if an I/O error occurs while removing the journal
+     */
+    public void clear() throws IOException {
+        Files.deleteIfExists(journalFilePath);
+        recordCount = 0;
+    }
+
+    /**
+     * Returns the number of records appended since the journal was last cleared.
+     *
+     * @return the number of records appended
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+}
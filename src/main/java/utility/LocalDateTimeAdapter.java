@@ -0,0 +1,93 @@
+package utility;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * This class converts a LocalDateTime to and from JSON without using reflection.
+ * The JSON has the same nested date and time objects that reflection produced, so existing data files still load.
+ */
+public class LocalDateTimeAdapter extends TypeAdapter<LocalDateTime> {
+
+    @Override
+    public void write(JsonWriter writer, LocalDateTime dateTime) throws IOException {
+        if (dateTime == null) {
+            writer.nullValue();
+            return;
+        }
+
+        writer.beginObject();
+        writer.name("date").beginObject();
+        writer.name("year").value(dateTime.getYear());
+        writer.name("month").value(dateTime.getMonthValue());
+        writer.name("day").value(dateTime.getDayOfMonth());
+        writer.endObject();
+        writer.name("time").beginObject();
+        writer.name("hour").value(dateTime.getHour());
+        writer.name("minute").value(dateTime.getMinute());
+        writer.name("second").value(dateTime.getSecond());
+        writer.name("nano").value(dateTime.getNano());
+        writer.endObject();
+        writer.endObject();
+    }
+
+    @Override
+    public LocalDateTime read(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+
+        int[] fields = new int[7];
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (name.equals("date") || name.equals("time")) {
+                readFields(reader, fields);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return LocalDateTime.of(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6]);
+    }
+
+    private void readFields(JsonReader reader, int[] fields) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "year":
+                fields[0] = reader.nextInt();
+                break;
+            case "month":
+                fields[1] = reader.nextInt();
+                break;
+            case "day":
+                fields[2] = reader.nextInt();
+                break;
+            case "hour":
+                fields[3] = reader.nextInt();
+                break;
+            case "minute":
+                fields[4] = reader.nextInt();
+                break;
+            case "second":
+                fields[5] = reader.nextInt();
+                break;
+            case "nano":
+                fields[6] = reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+}
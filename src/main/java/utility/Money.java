@@ -0,0 +1,54 @@
+package utility;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * This class converts amounts of money between dollars and cents.
+ * Amounts are kept as a whole number of cents in a long, so that sums of amounts are exact.
+ */
+public class Money {
+    /**
+     * The largest price in dollars an item can have. This is 10^15 cents, so a long holds the total of
+     * about 9,000 items at this price, but it does not stop a total of more items than that from overflowing.
+     */
+    public static final double MAX_DOLLARS = 1e13;
+
+    private static final int CENTS_PER_DOLLAR = 100;
+
+    /**
+     * Converts an amount in dollars to the nearest number of cents.
+     *
+     * @param dollars the amount in dollars
+     * @return the amount in cents
+     */
+    public static long toCents(double dollars) {
+        return Math.round(dollars * CENTS_PER_DOLLAR);
+    }
+
+    /**
+     * Converts an amount in cents to dollars.
+     *
+     * @param cents the amount in cents
+     * @return the amount in dollars
+     */
+    public static double toDollars(long cents) {
+        return (double) cents / CENTS_PER_DOLLAR;
+    }
+
+    /**
+     * Parses an amount in dollars entered by the user into cents.
+     * Digits after the second decimal place are dropped, so an amount is never rounded up.
+     *
+     * @param dollars the amount in dollars, such as "12.5"
+     * @return the amount in cents
+     * @throws NumberFormatException if the amount is not a decimal number or is too large
+     */
+    public static long parseCents(String dollars) throws NumberFormatException {
+        try {
+            return new BigDecimal(dollars.trim()).setScale(2, RoundingMode.DOWN).movePointRight(2).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException(dollars);
+        }
+    }
+}
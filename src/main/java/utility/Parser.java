@@ -1,21 +1,26 @@
 package utility;
 
-import java.io.FileReader;
-import java.util.ArrayList;
+import java.io.Reader;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.lang.reflect.Type;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 import exception.DuplicateArgumentFoundException;
 
 
 public class Parser {
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
+            .create();
+    private static final Gson PRETTY_GSON = GSON.newBuilder().setPrettyPrinting().create();
 
     /**
      * Formats the user input into an array of two strings.
@@ -34,50 +39,106 @@ public class Parser {
      * Formats the argument string into a map of key-value pairs.
      * Example: -x some_value --another_key another_value
      * produce the map ==> {k: some_value, another_key: another_value}
+     * <p>
+     * The argument string is read once from left to right. Words are separated by whitespace,
+     * except that a word starting with a double quote runs to the next double quote and a word
+     * starting with [ runs to the next ], even across spaces. A word is a flag if it starts with -
+     * and has no digits, so that negative numbers are read as values. The word after a flag is its
+     * value, with any double quote at its start or end removed, unless that word is a flag too.
      *
      * @param argString the argument string
      * @return a map of argument key-value pairs
      */
     public Map<String, String> formatArguments(String argString) throws DuplicateArgumentFoundException {
+        Map<String, String> argMap = new HashMap<>();
+        String flag = null;
+        int length = argString.length();
+        int start = skipWhitespace(argString, 0);
 
+        while (start < length) {
+            int end = findWordEnd(argString, start);
 
-        String regex = "(\"[^\"]*\")|(\\[[^\\]]*\\])|(\\S+)";
+            if (isFlag(argString, start, end)) {
+                if (flag != null) {
+                    argMap.put(flag, null);
+                }
 
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(argString);
+                flag = argString.substring(skipDashes(argString, start, end), end);
+                if (argMap.containsKey(flag)) {
+                    throw new DuplicateArgumentFoundException();
+                }
+            } else if (flag != null) {
+                argMap.put(flag, stripQuotes(argString, start, end));
+                flag = null;
+            }
 
-        ArrayList<String> words = new ArrayList<>();
+            start = skipWhitespace(argString, end);
+        }
 
-        while (matcher.find()) {
-            words.add(matcher.group());
+        if (flag != null) {
+            argMap.put(flag, null);
         }
+        return argMap;
+    }
 
-        String regex2 = "^(-{1,2}(?!\\d)\\D*)$";
-        Pattern pattern2 = Pattern.compile(regex2);
+    private static int findWordEnd(String argString, int start) {
+        char first = argString.charAt(start);
+        if (first == '"' || first == '[') {
+            int closingIndex = argString.indexOf(first == '"' ? '"' : ']', start + 1);
+            if (closingIndex >= 0) {
+                return closingIndex + 1;
+            }
+        }
 
-        Map<String, String> argMap = new HashMap<>();
+        int end = start;
+        while (end < argString.length() && !isWhitespace(argString.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
 
-        String flag = null;
-        for (int i = 0; i < words.size(); i++) {
-            boolean isFlag = pattern2.matcher(words.get(i)).matches();
-            if (isFlag) {
+    private static boolean isFlag(String argString, int start, int end) {
+        if (argString.charAt(start) != '-') {
+            return false;
+        }
+        for (int i = start + 1; i < end; i++) {
+            char c = argString.charAt(i);
+            if (c >= '0' && c <= '9') {
+                return false;
+            }
+        }
+        return true;
+    }
 
-                flag = words.get(i).replaceFirst("^-+", "");
+    private static String stripQuotes(String argString, int start, int end) {
+        if (argString.charAt(start) == '"') {
+            start++;
+        }
+        if (end > start && argString.charAt(end - 1) == '"') {
+            end--;
+        }
+        return argString.substring(start, end);
+    }
 
-                if (argMap.containsKey(flag)) {
-                    throw new DuplicateArgumentFoundException();
-                }
+    private static int skipDashes(String argString, int start, int end) {
+        while (start < end && argString.charAt(start) == '-') {
+            start++;
+        }
+        return start;
+    }
 
-                if (i + 1 < words.size() && !pattern2.matcher(words.get(i + 1)).matches()) {
-                    argMap.put(flag, words.get(i + 1).replaceAll("^\"|\"$", ""));
-                    i++;
-                } else {
-                    argMap.put(flag, null);
-                }
-            }
+    private static int skipWhitespace(String argString, int start) {
+        while (start < argString.length() && isWhitespace(argString.charAt(start))) {
+            start++;
         }
+        return start;
+    }
 
-        return argMap;
+    /**
+     * Checks whether a character separates words, using the same characters as \s in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     /**
@@ -87,21 +148,64 @@ public class Parser {
      * @return the JSON string representation of the object
      */
     public String jsonStringify(Object object) {
-        Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        return gson.toJson(object);
+        return PRETTY_GSON.toJson(object);
+    }
+
+    /**
+     * Converts an object to its corresponding JSON string on a single line.
+     *
+     * @param object the object to be converted
+     * @return the single line JSON string representation of the object
+     */
+    public String jsonStringifyCompact(Object object) {
+        return GSON.toJson(object);
     }
 
     /**
      * Parses a JSON file into an object of the specified type.
      *
-     * @param fr   the FileReader object representing the JSON file
+     * @param fr   the Reader object representing the JSON file
      * @param type the Type object representing the type of the object to be parsed
      * @return an object of the specified type
      * @throws JsonParseException if the JSON is not formatted correctly
      */
-    public <T> T jsonParse(FileReader fr, Type type) throws JsonParseException {
-        Gson gson = new Gson();
-        return gson.fromJson(fr, type);
+    public <T> T jsonParse(Reader fr, Type type) throws JsonParseException {
+        return GSON.fromJson(fr, type);
+    }
+
+    /**
+     * Parses the next value of a JSON stream into an object of the specified type.
+     *
+     * @param reader the JsonReader positioned at the value to be parsed
+     * @param type   the Type object representing the type of the object to be parsed
+     * @return an object of the specified type
+     * @throws JsonParseException if the JSON is not formatted correctly
+     */
+    public <T> T jsonParse(JsonReader reader, Type type) throws JsonParseException {
+        return GSON.fromJson(reader, type);
+    }
+
+    /**
+     * Parses a JSON string into an object of the specified type.
+     *
+     * @param json the JSON string
+     * @param type the Type object representing the type of the object to be parsed
+     * @return an object of the specified type
+     * @throws JsonParseException if the JSON is not formatted correctly
+     */
+    public <T> T jsonParse(String json, Type type) throws JsonParseException {
+        return GSON.fromJson(json, type);
+    }
+
+    /**
+     * Returns the adapter that converts objects of the specified type to and from JSON,
+     * for reading or writing a JSON document one value at a time.
+     *
+     * @param type the Class object representing the type of the objects to be converted
+     * @return the adapter for the specified type
+     */
+    public <T> TypeAdapter<T> jsonAdapter(Class<T> type) {
+        return GSON.getAdapter(TypeToken.get(type));
     }
 
     public double roundToTwoDecimalPlaces(double value) {
@@ -0,0 +1,192 @@
+package utility;
+
+import ui.Ui;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * This class decides on which thread changes are written to the data files.
+ * By default, a change is written straight away by the thread that made it. Once writing in the background
+ * is started, a change only queues the task that writes it, and a single background thread runs the queued tasks.
+ * A task that is queued again before it runs is only run once, so a burst of changes is written together,
+ * such as several orders appended to the journal in one write and forced to the storage device once.
+ * <p>
+ * A task writes every change made before it runs, so it must take what it writes from the data while holding
+ * the lock of the data, and write it after letting go of the lock. A thread that needs its changes to be saved
+ * before it goes on waits for them with {@link #awaitDurable()}, which must not be called while holding the lock
+ * of any data that is saved through this service. A task that fails to write its changes reports the failure
+ * with {@link #reportFailure(IOException)}, so that the thread waiting for the changes learns of it.
+ */
+public class PersistenceService {
+    private static PersistenceService service = new PersistenceService();
+
+    private final Set<Runnable> pendingTasks;
+    private Thread writer;
+    private long submittedCount;
+    private long writtenCount;
+    private IOException lastFailure;
+
+    public PersistenceService() {
+        this.pendingTasks = new LinkedHashSet<>();
+        this.submittedCount = 0;
+        this.writtenCount = 0;
+    }
+
+    public static PersistenceService getService() {
+        return service;
+    }
+
+    public static void setService(PersistenceService newService) {
+        service = newService;
+    }
+
+    /**
+     * Starts writing changes on a background thread. Every queued change is written before the application exits.
+     */
+    public synchronized void startInBackground() {
+        if (writer != null) {
+            return;
+        }
+
+        writer = new Thread(this::runWriter, "persistence");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                awaitDurable();
+            } catch (IOException e) {
+                Ui.getOutput().println(e.getMessage());
+                Ui.flushOutput();
+            }
+        }));
+    }
+
+    /**
+     * Queues a task that writes the changes made to some data, or runs it straight away
+     * if changes are not written in the background, or the background thread has stopped.
+     *
+     * @param task the task that writes every change made so far
+     */
+    public void submit(Runnable task) {
+        Set<Runnable> tasks;
+        synchronized (this) {
+            if (writer != null && writer.isAlive()) {
+                pendingTasks.add(task);
+                submittedCount++;
+                notifyAll();
+                return;
+            }
+            tasks = takeOrphanedTasks();
+        }
+        tasks.add(task);
+        for (Runnable orphanedTask : tasks) {
+            runTask(orphanedTask);
+        }
+    }
+
+    /**
+     * Records that a task could not write its changes, for a task that handles the failure itself
+     * rather than letting it reach the background thread.
+     *
+     * @param failure the error that stopped the changes from being written
+     */
+    public synchronized void reportFailure(IOException failure) {
+        lastFailure = failure;
+    }
+
+    /**
+     * Waits until every change queued before this call has been written, and forced to the storage device
+     * as the FsyncPolicy requires. Returns straight away if changes are not written in the background.
+     * Tasks left behind by a background thread that has stopped are run by the calling thread instead.
+     *
+     * @throws IOException if changes could not be written since this was last called, as the last such failure
+     */
+    public void awaitDurable() throws IOException {
+        Set<Runnable> orphanedTasks;
+        synchronized (this) {
+            long targetCount = submittedCount;
+            while (writtenCount < targetCount && writer != null && writer.isAlive()) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            orphanedTasks = takeOrphanedTasks();
+        }
+
+        for (Runnable task : orphanedTasks) {
+            runTask(task);
+        }
+
+        IOException failure;
+        synchronized (this) {
+            failure = lastFailure;
+            lastFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Takes the queued tasks that a stopped background thread will never run.
+     */
+    private Set<Runnable> takeOrphanedTasks() {
+        Set<Runnable> tasks = new LinkedHashSet<>();
+        if (writer != null && !writer.isAlive()) {
+            tasks.addAll(pendingTasks);
+            pendingTasks.clear();
+        }
+        return tasks;
+    }
+
+    /**
+     * Runs a task, recording the failure if it throws rather than letting it stop the thread.
+     */
+    private void runTask(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            Ui.getOutput().println(e.getMessage());
+            reportFailure(new IOException(e.getMessage(), e));
+        }
+    }
+
+    /**
+     * Runs the queued tasks on the background thread. The tasks queued while a batch is being written
+     * are gathered into the next batch.
+     */
+    private void runWriter() {
+        while (true) {
+            ArrayList<Runnable> batch;
+            long batchCount;
+            synchronized (this) {
+                while (pendingTasks.isEmpty()) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                batch = new ArrayList<>(pendingTasks);
+                batchCount = submittedCount;
+                pendingTasks.clear();
+            }
+
+            for (Runnable task : batch) {
+                runTask(task);
+            }
+            Ui.flushOutput();
+
+            synchronized (this) {
+                writtenCount = batchCount;
+                notifyAll();
+            }
+        }
+    }
+}
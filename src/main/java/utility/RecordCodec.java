@@ -0,0 +1,33 @@
+package utility;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * This interface converts an object to and from a compact binary record, for data files written by
+ * {@link Store#saveRecords} rather than as JSON. Each record is stored with its length in front of it,
+ * so a record only needs to hold its own fields.
+ *
+ * @param <T> the type of the objects converted
+ */
+public interface RecordCodec<T> {
+
+    /**
+     * Writes the fields of an object as a record.
+     *
+     * @param object the object to be written
+     * @param out    the output the record is written to
+     * @throws IOException if an I/O error occurs while writing the record
+     */
+    void write(T object, DataOutput out) throws IOException;
+
+    /**
+     * Reads an object from a record.
+     *
+     * @param in the input holding the record, and nothing after it
+     * @return the object held by the record
+     * @throws IOException if the record cannot be read
+     */
+    T read(DataInput in) throws IOException;
+}
@@ -0,0 +1,34 @@
+package utility;
+
+/**
+ * The formats in which the order list can be saved. JSON can be read and edited by hand, while the binary format
+ * is a fraction of the size and is loaded many times faster, which matters once the order list is large.
+ */
+public enum StorageFormat {
+    JSON,
+    BINARY;
+
+    private static StorageFormat format = JSON;
+
+    /**
+     * Creates a format from its text form: "json" or "binary".
+     *
+     * @param value the text form of the format
+     * @return the format described by the text
+     * @throws IllegalArgumentException if the text does not describe a format
+     */
+    public static StorageFormat parse(String value) throws IllegalArgumentException {
+        if (value == null) {
+            throw new IllegalArgumentException();
+        }
+        return valueOf(value.trim().toUpperCase());
+    }
+
+    public static StorageFormat getFormat() {
+        return format;
+    }
+
+    public static void setFormat(StorageFormat newFormat) {
+        format = newFormat;
+    }
+}
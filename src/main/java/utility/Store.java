@@ -1,22 +1,62 @@
 package utility;
 
 
-import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.lang.reflect.Type;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
 
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import exception.FileIsCorruptedException;
 import exception.FileIsEmptyException;
+import ui.StoreUi;
 
 /**
  * This class provides functionality for managing the storage and retrieval of local files,
- * whether they are in JSON or CSV format.
+ * whether they are in JSON or CSV format, or hold binary records written by a RecordCodec.
+ * Files are written to a temporary file first and then renamed over the old file, so that a crash
+ * in the middle of a save never leaves a partially written file behind. The previous version of the
+ * file is kept as a backup, and every file ends with a checksum that is verified when it is loaded.
  */
 public class Store {
     private static final String STORE_DIR_PATH = "./datastore";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final String BACKUP_EXTENSION = ".bak";
+    private static final String CHECKSUM_PREFIX = "#crc32:";
+    private static final int TAIL_LENGTH = 64;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long PROGRESS_THRESHOLD_BYTES = 16 * 1024 * 1024;
+    private static final int RECORD_FILE_MAGIC = 0x4d475752;
+    private static final short RECORD_FILE_VERSION = 1;
+    private static final int RECORD_FILE_HEADER_LENGTH = Integer.BYTES + Short.BYTES;
+    private static final int END_OF_RECORDS = -1;
     private String storeFilePath;
 
     /**
@@ -39,47 +79,413 @@ public class Store {
      * @throws IOException if an I/O error occurs while saving the object to the file
      */
     public void save(Object object) throws IOException {
-        Files.createDirectories(Paths.get(STORE_DIR_PATH));
-        File file = new File(storeFilePath);
+        Path path = Paths.get(storeFilePath);
+        Files.createDirectories(path.getParent());
         Parser parser = new Parser();
         String jsonString = parser.jsonStringify(object);
 
-        saveAsJson(jsonString, file);
+        saveAsJson(jsonString, path);
     }
 
     /**
-     * Saves the specified JSON string to a file in JSON format.
+     * Saves a list of objects to a file as binary records, converting each object with the given codec.
+     * The file starts with a header, followed by one record per object with its length in front of it,
+     * and ends with an end marker and a checksum of everything before the checksum.
+     *
+     * @param objects the objects to be saved
+     * @param codec   the codec that converts each object to a record
+     * @throws IOException if an I/O error occurs while saving the objects to the file
+     */
+    public <T> void saveRecords(List<T> objects, RecordCodec<T> codec) throws IOException {
+        Path path = Paths.get(storeFilePath);
+        Files.createDirectories(path.getParent());
+
+        ByteArrayOutputStream content = new ByteArrayOutputStream(BUFFER_SIZE);
+        DataOutputStream out = new DataOutputStream(content);
+        out.writeInt(RECORD_FILE_MAGIC);
+        out.writeShort(RECORD_FILE_VERSION);
+
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(record);
+        for (T object : objects) {
+            record.reset();
+            codec.write(object, recordOut);
+            out.writeInt(record.size());
+            record.writeTo(out);
+        }
+        out.writeInt(END_OF_RECORDS);
+
+        byte[] body = content.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body, 0, body.length);
+        replaceFile(path, body, ByteBuffer.allocate(Long.BYTES).putLong(crc.getValue()).array());
+    }
+
+    /**
+     * Saves the specified JSON string to a file in JSON format, followed by a checksum of the JSON string.
      *
      * @param jsonString the JSON string to be saved
-     * @param file       the file to which the JSON string should be saved
+     * @param path       the path of the file to which the JSON string should be saved
      * @throws IOException if an I/O error occurs while saving the JSON string to the file
      */
-    private void saveAsJson(String jsonString, File file) throws IOException {
-        FileWriter fw = new FileWriter(file);
-        fw.write(jsonString);
+    private void saveAsJson(String jsonString, Path path) throws IOException {
+        byte[] body = jsonString.getBytes(StandardCharsets.UTF_8);
+        String trailer = "\n" + CHECKSUM_PREFIX + computeChecksum(body, body.length) + "\n";
+        replaceFile(path, body, trailer.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Replaces the file with the given content. The content is written to a temporary file, which is forced
+     * to the storage device according to the FsyncPolicy, and then renamed over the old file.
+     * The old file is kept as the backup.
+     *
+     * @param path    the path of the file to be replaced
+     * @param body    the content of the file
+     * @param trailer the checksum written after the content
+     * @throws IOException if an I/O error occurs while writing the file
+     */
+    private void replaceFile(Path path, byte[] body, byte[] trailer) throws IOException {
+        Path tempPath = path.resolveSibling(path.getFileName() + TEMP_EXTENSION);
+        Path backupPath = path.resolveSibling(path.getFileName() + BACKUP_EXTENSION);
 
-        fw.flush();
-        fw.close();
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(body);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer = ByteBuffer.wrap(trailer);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            FsyncPolicy.getPolicy().sync(channel, path);
+        }
+
+        if (Files.exists(path)) {
+            Files.move(path, backupPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        FsyncPolicy.getPolicy().syncDirectory(path.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Forces the file and its directory entry to the storage device, whatever the FsyncPolicy,
+     * such as before the changes it now holds are removed from a journal.
+     *
+     * @throws IOException if an I/O error occurs while forcing the file
+     */
+    public void force() throws IOException {
+        FsyncPolicy.getPolicy().forceNow(Paths.get(storeFilePath));
+    }
+
+    /**
+     * Removes the file and its backup, such as once its content has been saved in another format.
+     *
+     * @throws IOException if an I/O error occurs while removing the file
+     */
+    public void delete() throws IOException {
+        Path path = Paths.get(storeFilePath);
+        Files.deleteIfExists(path);
+        Files.deleteIfExists(path.resolveSibling(path.getFileName() + BACKUP_EXTENSION));
     }
 
     /**
      * Loads an object from a file in JSON format.
+     * If the file is missing, empty, cut short or fails its checksum,
+     * the backup of the previous save is loaded instead.
      *
      * @param type the Type of the object to be loaded
      * @return the loaded object of the specified Type
-     * @throws IOException if an I/O error occurs while reading the file
+     * @throws IOException                if an I/O error occurs while reading the file
+     * @throws FileIsEmptyException       if the file contains no data
+     * @throws FileIsCorruptedException   if neither the file nor its backup passes the checksum
      */
-    public <T> T load(Type type) throws IOException, FileIsEmptyException {
-        File file = new File(storeFilePath);
+    public <T> T load(Type type) throws IOException, FileIsEmptyException, FileIsCorruptedException {
+        return loadWithBackup(path -> loadFromPath(path, reader -> new Parser().jsonParse(reader, type)));
+    }
 
-        boolean isEmpty = Files.readString(Paths.get(storeFilePath)).trim().isEmpty();
-        if (isEmpty) {
-            throw new FileIsEmptyException();
+    /**
+     * Loads a list of objects from a file containing a JSON array.
+     * The file is read in a single pass and each element is converted as soon as it has been read,
+     * so the content of the file is never held in memory as a whole. Progress is reported for large files.
+     * If the file is missing, empty, cut short or fails its checksum,
+     * the backup of the previous save is loaded instead.
+     *
+     * @param elementType the Class of the elements in the list
+     * @return the loaded list of objects
+     * @throws IOException                if an I/O error occurs while reading the file
+     * @throws FileIsEmptyException       if the file contains no data
+     * @throws FileIsCorruptedException   if neither the file nor its backup passes the checksum
+     */
+    public <T> ArrayList<T> loadList(Class<T> elementType)
+            throws IOException, FileIsEmptyException, FileIsCorruptedException {
+        TypeAdapter<T> adapter = new Parser().jsonAdapter(elementType);
+
+        return loadWithBackup(path -> loadFromPath(path, reader -> {
+            ArrayList<T> list = new ArrayList<>();
+            reader.beginArray();
+            while (reader.hasNext()) {
+                list.add(adapter.read(reader));
+            }
+            reader.endArray();
+            return list;
+        }));
+    }
+
+    /**
+     * Loads a list of objects from a file of binary records, converting each record with the given codec.
+     * If the file is missing, empty, cut short or fails its checksum,
+     * the backup of the previous save is loaded instead.
+     *
+     * @param codec the codec that converts each record to an object
+     * @return the loaded list of objects
+     * @throws IOException                if an I/O error occurs while reading the file
+     * @throws FileIsEmptyException       if the file contains no data
+     * @throws FileIsCorruptedException   if neither the file nor its backup passes the checksum
+     */
+    public <T> ArrayList<T> loadRecords(RecordCodec<T> codec)
+            throws IOException, FileIsEmptyException, FileIsCorruptedException {
+        return loadWithBackup(path -> loadRecordsFromPath(path, codec));
+    }
+
+    private <T> T loadWithBackup(PathLoader<T> loader)
+            throws IOException, FileIsEmptyException, FileIsCorruptedException {
+        Path path = Paths.get(storeFilePath);
+        Path backupPath = path.resolveSibling(path.getFileName() + BACKUP_EXTENSION);
+
+        try {
+            return loader.load(path);
+        } catch (NoSuchFileException | FileIsEmptyException | FileIsCorruptedException | JsonParseException e) {
+            if (!Files.exists(backupPath)) {
+                throw e;
+            }
         }
 
-        FileReader fr = new FileReader(file);
-        Parser parser = new Parser();
+        return loader.load(backupPath);
+    }
+
+    /**
+     * Reads the binary records in the file with the given codec. The file is read as a whole, since it is a
+     * fraction of the size of the same data in JSON, and its checksum is verified before any record is read.
+     * A file too short to hold its header and checksum, a record that cannot be read or a missing end marker
+     * means that the file is corrupted. This includes an empty file, since a saved file is never empty.
+     *
+     * @param path  the path of the file to be loaded
+     * @param codec the codec that converts each record to an object
+     * @return the objects held by the records
+     */
+    private <T> ArrayList<T> loadRecordsFromPath(Path path, RecordCodec<T> codec)
+            throws IOException, FileIsEmptyException, FileIsCorruptedException {
+        byte[] content = Files.readAllBytes(path);
+        int checksumStart = content.length - Long.BYTES;
+        if (checksumStart < RECORD_FILE_HEADER_LENGTH + Integer.BYTES) {
+            throw new FileIsCorruptedException();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        CRC32 crc = new CRC32();
+        crc.update(content, 0, checksumStart);
+        if (buffer.getLong(checksumStart) != crc.getValue()
+                || buffer.getInt() != RECORD_FILE_MAGIC || buffer.getShort() != RECORD_FILE_VERSION) {
+            throw new FileIsCorruptedException();
+        }
+
+        ArrayList<T> list = new ArrayList<>();
+        buffer.limit(checksumStart);
+        try {
+            int length;
+            while ((length = buffer.getInt()) != END_OF_RECORDS) {
+                if (length < 0 || length > buffer.remaining()) {
+                    throw new FileIsCorruptedException();
+                }
+                // The codec reads from a stream that ends with the record, so it cannot read past it
+                int recordStart = buffer.position();
+                list.add(codec.read(new DataInputStream(new ByteArrayInputStream(content, recordStart, length))));
+                buffer.position(recordStart + length);
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new FileIsCorruptedException();
+        }
+
+        if (buffer.hasRemaining()) {
+            throw new FileIsCorruptedException();
+        }
+        return list;
+    }
+
+    /**
+     * Reads the JSON document in the file with the given loader, while computing the checksum of the
+     * document. The checksum is compared with the trailer once the whole document has been read.
+     *
+     * @param path   the path of the file to be loaded
+     * @param loader the loader that converts the JSON document
+     * @return the object returned by the loader
+     */
+    private <T> T loadFromPath(Path path, JsonLoader<T> loader)
+            throws IOException, FileIsEmptyException, FileIsCorruptedException {
+        long fileSize = Files.size(path);
+        byte[] tail = readTail(path, fileSize);
+        int trailerStart = findChecksumStart(tail);
+
+        long bodyLength = fileSize;
+        String storedChecksum = null;
+        if (trailerStart >= 0) {
+            bodyLength = fileSize - tail.length + trailerStart;
+            storedChecksum = new String(tail, trailerStart + 1, tail.length - trailerStart - 1,
+                    StandardCharsets.UTF_8).trim().substring(CHECKSUM_PREFIX.length());
+        }
+
+        boolean isProgressShown = bodyLength >= PROGRESS_THRESHOLD_BYTES;
+        BodyInputStream body = new BodyInputStream(new FileInputStream(path.toFile()), bodyLength,
+                isProgressShown ? path.getFileName().toString() : null);
+
+        T result;
+        try (JsonReader reader = new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            reader.setLenient(true);
+            if (reader.peek() == JsonToken.END_DOCUMENT) {
+                throw new FileIsEmptyException();
+            }
+            result = loader.load(reader);
+            body.skipRemaining();
+        } catch (EOFException e) {
+            // The document ends part of the way through, as when a write was cut off
+            throw new FileIsCorruptedException();
+        } catch (MalformedJsonException | IllegalStateException | DateTimeException | NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+
+        if (storedChecksum != null && !storedChecksum.equals(formatChecksum(body.getChecksum()))) {
+            throw new FileIsCorruptedException();
+        }
+
+        return result;
+    }
+
+    private byte[] readTail(Path path, long fileSize) throws IOException {
+        int tailLength = (int) Math.min(fileSize, TAIL_LENGTH);
+        byte[] tail = new byte[tailLength];
+
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "r")) {
+            file.seek(fileSize - tailLength);
+            file.readFully(tail);
+        }
 
-        return parser.jsonParse(fr, type);
+        return tail;
+    }
+
+    /**
+     * Finds the position of the newline that starts the checksum trailer.
+     * Files saved before checksums were introduced do not have a trailer.
+     *
+     * @param content the content at the end of the file
+     * @return the position of the newline before the trailer, or -1 if there is no trailer
+     */
+    private int findChecksumStart(byte[] content) {
+        int end = content.length - 1;
+        while (end >= 0 && (content[end] == '\n' || content[end] == '\r')) {
+            end--;
+        }
+
+        int start = end;
+        while (start >= 0 && content[start] != '\n') {
+            start--;
+        }
+
+        if (start < 0) {
+            return -1;
+        }
+
+        String lastLine = new String(content, start + 1, end - start, StandardCharsets.UTF_8);
+        return lastLine.startsWith(CHECKSUM_PREFIX) ? start : -1;
+    }
+
+    private String computeChecksum(byte[] content, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(content, 0, length);
+        return formatChecksum(crc.getValue());
+    }
+
+    private String formatChecksum(long checksum) {
+        return String.format("%08x", checksum);
+    }
+
+    /**
+     * Loads an object from the file at a path, which is either the file itself or its backup.
+     */
+    private interface PathLoader<T> {
+        T load(Path path) throws IOException, FileIsEmptyException, FileIsCorruptedException;
+    }
+
+    /**
+     * Converts the JSON document read from a JsonReader into an object.
+     */
+    private interface JsonLoader<T> {
+        T load(JsonReader reader) throws IOException;
+    }
+
+    /**
+     * This class reads the JSON document at the start of a data file, stopping before the checksum trailer.
+     * It computes the checksum of everything it reads and reports the progress of large loads.
+     */
+    private static class BodyInputStream extends FilterInputStream {
+        private static final int PROGRESS_STEP_PERCENT = 10;
+        private final long length;
+        private final String progressName;
+        private final CRC32 crc;
+        private long position;
+        private int reportedPercent;
+
+        BodyInputStream(InputStream in, long length, String progressName) {
+            super(new BufferedInputStream(in, BUFFER_SIZE));
+            this.length = length;
+            this.progressName = progressName;
+            this.crc = new CRC32();
+            this.position = 0;
+            this.reportedPercent = 0;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int count = read(single, 0, 1);
+            return count == -1 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int count) throws IOException {
+            if (position >= length) {
+                return -1;
+            }
+
+            int bytesRead = super.read(buffer, offset, (int) Math.min(count, length - position));
+            if (bytesRead > 0) {
+                crc.update(buffer, offset, bytesRead);
+                position += bytesRead;
+                reportProgress();
+            }
+            return bytesRead;
+        }
+
+        void skipRemaining() throws IOException {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (read(buffer, 0, buffer.length) != -1) {
+                // Read to the end so that the checksum covers the whole document
+            }
+        }
+
+        long getChecksum() {
+            return crc.getValue();
+        }
+
+        private void reportProgress() {
+            if (progressName == null) {
+                return;
+            }
+
+            int percent = (int) (position * 100 / length);
+            if (percent >= reportedPercent + PROGRESS_STEP_PERCENT) {
+                reportedPercent = percent - percent % PROGRESS_STEP_PERCENT;
+                new StoreUi().printLoadProgress(progressName, reportedPercent);
+            }
+        }
     }
 }
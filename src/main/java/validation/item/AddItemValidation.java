@@ -17,6 +17,7 @@ import exception.item.NameIsIntegerException;
 import item.Menu;
 import ui.Flags;
 import ui.MenuUi;
+import utility.Money;
 
 public class AddItemValidation extends ItemValidation {
 
@@ -145,11 +146,8 @@ public class AddItemValidation extends ItemValidation {
      */
     public void validateDuplicateName(Command c, Menu menu) throws DuplicateNameException {
         String newItemName = c.getArgumentMap().get(LONG_NAME_FLAG);
-        int menuSize = menu.getItems().size();
-        for(int i = 0; i<menuSize; i++) {
-            if(newItemName.toLowerCase().equals(menu.getItem(i).getName().toLowerCase())) {
-                throw new DuplicateNameException();
-            }
+        if(menu.hasItemNamed(newItemName)) {
+            throw new DuplicateNameException();
         }
 
     }
@@ -179,7 +177,7 @@ public class AddItemValidation extends ItemValidation {
 
         double tempPrice = Double.parseDouble(price);
 
-        if (tempPrice > Double.MAX_VALUE) {
+        if (tempPrice > Money.MAX_DOLLARS) {
             throw new PriceOverflowException();
         }
 
@@ -54,12 +54,13 @@ public class AddOrderValidation extends Validation {
     public boolean checkIfSingleItemNameValid(String itemName)
             throws DuplicateArgumentFoundException, MultipleSimilarItemsFoundException, NoSuchItemException {
 
-        if (menu.findMatchingItemNames(itemName).size() > 1) {
+        int matchCount = menu.findMatchingItemNames(itemName).size();
+        if (matchCount > 1) {
             transactionUi.printError(Flags.Error.MULTIPLE_SIMILAR_ITEMS);
             Command findItemCommand = new Command("finditem " + itemName);
             menu.showResultsOfFindWithoutSuccessMsg(findItemCommand);
             throw new MultipleSimilarItemsFoundException();
-        } else if (menu.findMatchingItemNames(itemName).size() == 0) {
+        } else if (matchCount == 0) {
             throw new NoSuchItemException();
         }
 
@@ -80,13 +81,15 @@ public class AddOrderValidation extends Validation {
                 itemName = itemName.substring(1, itemName.length() - 1);
             }
 
-            if (menu.findMatchingItemNames(itemName).size() > 1) {
+            int matchCount = menu.findMatchingItemNames(itemName).size();
+            if (matchCount > 1) {
                 transactionUi.printError(Flags.Error.MULTIPLE_SIMILAR_ITEMS);
                 Command findItemCommand = new Command("finditem " + itemName);
                 menu.showResultsOfFindWithoutSuccessMsg(findItemCommand);
                 return false;
-            } else if (menu.findMatchingItemNames(itemName).size() == 0) {
+            } else if (matchCount == 0) {
                 transactionUi.printError(Flags.Error.NO_SUCH_ITEM);
+                menu.showSimilarItems(itemName);
                 return false;
             }
 
@@ -94,7 +97,7 @@ public class AddOrderValidation extends Validation {
             if (Integer.parseInt(itemName) < 0) {
                 transactionUi.printError(Flags.Error.INVALID_INDEX);
                 return false;
-            } else if (Integer.parseInt(itemName) >= menu.getItems().size()) {
+            } else if (!menu.hasItem(Integer.parseInt(itemName))) {
                 transactionUi.printError(Flags.Error.INVALID_INDEX);
                 return false;
             }
@@ -0,0 +1,308 @@
+package validation.order;
+
+import exception.DuplicateArgumentFoundException;
+import exception.order.InvalidIndexNegativeException;
+import exception.order.InvalidIndexOutOfBoundsException;
+import exception.order.InvalidMultipleOrderFormatException;
+import exception.order.InvalidQuantityNegativeException;
+import exception.order.InvalidQuantityNumberFormatException;
+import exception.order.MissingMultipleOrderArgumentException;
+import exception.order.MissingMultpleOrderFlagException;
+import exception.order.MultipleSimilarItemsFoundException;
+import item.Menu;
+import order.OrderEntry;
+
+import java.util.ArrayList;
+
+/**
+ * The OrderItemsParser class parses the input of an /addorder -I command into order entries.
+ * The input is read once from left to right by a recursive descent parser for the grammar:
+ * <pre>
+ * input    = command flag list
+ * flag     = "-I" | "--items"
+ * list     = "[" entry ("," entry)* "]"
+ * entry    = item ":" quantity
+ * item     = index | name | "\"" name "\""
+ * </pre>
+ * Whitespace is allowed between any two parts. Items are looked up on the menu as soon as they are read,
+ * and the position of the first error found is kept so that it can be shown to the user.
+ */
+class OrderItemsParser {
+    /**
+     * The error position before any error has been found.
+     */
+    static final int NO_ERROR = -1;
+
+    private static final String SHORT_FLAG = "-I";
+    private static final String LONG_FLAG = "--items";
+
+    private String input;
+    private int position;
+    private int errorPosition;
+    private AddOrderValidation validation;
+
+    /**
+     * Constructs a parser for a single /addorder -I command.
+     *
+     * @param input      the full input of the command
+     * @param validation the validation used to look up item names on the menu
+     */
+    OrderItemsParser(String input, AddOrderValidation validation) {
+        this.input = input;
+        this.position = 0;
+        this.errorPosition = NO_ERROR;
+        this.validation = validation;
+    }
+
+    /**
+     * Parses the input into order entries, in the order they were entered.
+     *
+     * @return the order entries of the command
+     * @throws MissingMultpleOrderFlagException      the -I flag is missing
+     * @throws MissingMultipleOrderArgumentException there is nothing after the flag
+     * @throws InvalidMultipleOrderFormatException   the input does not follow the grammar
+     * @throws InvalidIndexNegativeException         an item index is negative
+     * @throws InvalidIndexOutOfBoundsException      an item index is not on the menu
+     * @throws InvalidQuantityNumberFormatException  a quantity is too large
+     * @throws InvalidQuantityNegativeException      a quantity is not more than 0
+     * @throws MultipleSimilarItemsFoundException    an item name matches no item or more than one item
+     */
+    ArrayList<OrderEntry> parse() throws MissingMultpleOrderFlagException, MissingMultipleOrderArgumentException,
+            InvalidMultipleOrderFormatException, InvalidIndexNegativeException, InvalidIndexOutOfBoundsException,
+            InvalidQuantityNumberFormatException, InvalidQuantityNegativeException,
+            MultipleSimilarItemsFoundException, DuplicateArgumentFoundException {
+
+        skipWhitespace();
+        while (position < input.length() && !Character.isWhitespace(input.charAt(position))) {
+            position++;
+        }
+
+        parseFlag();
+
+        skipWhitespace();
+        if (position == input.length()) {
+            throw new MissingMultipleOrderArgumentException();
+        }
+
+        ArrayList<OrderEntry> orderEntries = parseList();
+
+        skipWhitespace();
+        if (position < input.length()) {
+            throw formatError();
+        }
+
+        return orderEntries;
+    }
+
+    /**
+     * Returns the position in the input of the first error found.
+     *
+     * @return the position of the error, or NO_ERROR if the input was parsed successfully
+     */
+    int getErrorPosition() {
+        return errorPosition;
+    }
+
+    private void parseFlag() throws MissingMultpleOrderFlagException, InvalidMultipleOrderFormatException {
+        skipWhitespace();
+
+        if (input.startsWith(LONG_FLAG, position)) {
+            position += LONG_FLAG.length();
+        } else if (input.startsWith(SHORT_FLAG, position)) {
+            position += SHORT_FLAG.length();
+        } else if (!input.contains(SHORT_FLAG) && !input.contains(LONG_FLAG)) {
+            errorPosition = position;
+            throw new MissingMultpleOrderFlagException();
+        } else {
+            throw formatError();
+        }
+    }
+
+    private ArrayList<OrderEntry> parseList() throws InvalidMultipleOrderFormatException,
+            InvalidIndexNegativeException, InvalidIndexOutOfBoundsException, InvalidQuantityNumberFormatException,
+            InvalidQuantityNegativeException, MultipleSimilarItemsFoundException, DuplicateArgumentFoundException {
+
+        ArrayList<OrderEntry> orderEntries = new ArrayList<>();
+
+        expect('[');
+        orderEntries.add(parseEntry());
+        skipWhitespace();
+
+        while (position < input.length() && input.charAt(position) == ',') {
+            position++;
+            orderEntries.add(parseEntry());
+            skipWhitespace();
+        }
+
+        expect(']');
+        return orderEntries;
+    }
+
+    private OrderEntry parseEntry() throws InvalidMultipleOrderFormatException, InvalidIndexNegativeException,
+            InvalidIndexOutOfBoundsException, InvalidQuantityNumberFormatException, InvalidQuantityNegativeException,
+            MultipleSimilarItemsFoundException, DuplicateArgumentFoundException {
+
+        int itemIndex = parseItem();
+        skipWhitespace();
+        expect(':');
+        int quantity = parseQuantity();
+
+        return new OrderEntry(validation.getMenu().getItem(itemIndex), quantity);
+    }
+
+    /**
+     * Parses an item, given either by its index or by its name, and finds its index on the menu.
+     *
+     * @return the index of the item on the menu
+     */
+    private int parseItem() throws InvalidMultipleOrderFormatException, InvalidIndexNegativeException,
+            InvalidIndexOutOfBoundsException, MultipleSimilarItemsFoundException, DuplicateArgumentFoundException {
+
+        skipWhitespace();
+        int start = position;
+        String name;
+
+        if (position < input.length() && input.charAt(position) == '"') {
+            int end = input.indexOf('"', position + 1);
+            if (end == -1) {
+                throw formatError();
+            }
+            name = input.substring(position + 1, end);
+            position = end + 1;
+        } else {
+            while (position < input.length() && !isDelimiter(input.charAt(position))) {
+                position++;
+            }
+            name = input.substring(start, position).trim();
+
+            if (isNumber(name)) {
+                return toItemIndex(name, start);
+            }
+        }
+
+        if (name.isBlank()) {
+            errorPosition = start;
+            throw new InvalidMultipleOrderFormatException();
+        }
+
+        return findItemIndex(name);
+    }
+
+    private int toItemIndex(String number, int start) throws InvalidIndexNegativeException,
+            InvalidIndexOutOfBoundsException {
+
+        errorPosition = start;
+        if (number.charAt(0) == '-') {
+            throw new InvalidIndexNegativeException();
+        }
+
+        long index = parseDigits(number);
+        if (index > Integer.MAX_VALUE || !validation.getMenu().hasItem((int) index)) {
+            throw new InvalidIndexOutOfBoundsException();
+        }
+
+        errorPosition = NO_ERROR;
+        return (int) index;
+    }
+
+    private int findItemIndex(String name) throws MultipleSimilarItemsFoundException,
+            DuplicateArgumentFoundException {
+
+        if (!validation.checkValidItemName("\"" + name + "\"")) {
+            throw new MultipleSimilarItemsFoundException();
+        }
+        return validation.getMenu().findItemIndex(name);
+    }
+
+    private int parseQuantity() throws InvalidMultipleOrderFormatException, InvalidQuantityNumberFormatException,
+            InvalidQuantityNegativeException {
+
+        skipWhitespace();
+        int start = position;
+
+        if (position < input.length() && input.charAt(position) == '-') {
+            position++;
+        }
+        while (position < input.length() && isDigit(input.charAt(position))) {
+            position++;
+        }
+
+        String number = input.substring(start, position);
+        if (!isNumber(number)) {
+            position = start;
+            throw formatError();
+        }
+
+        errorPosition = start;
+        if (number.charAt(0) == '-') {
+            throw new InvalidQuantityNegativeException();
+        }
+
+        long quantity = parseDigits(number);
+        if (quantity > Integer.MAX_VALUE) {
+            throw new InvalidQuantityNumberFormatException();
+        } else if (quantity == 0) {
+            throw new InvalidQuantityNegativeException();
+        }
+
+        errorPosition = NO_ERROR;
+        return (int) quantity;
+    }
+
+    private void expect(char expected) throws InvalidMultipleOrderFormatException {
+        skipWhitespace();
+        if (position == input.length() || input.charAt(position) != expected) {
+            throw formatError();
+        }
+        position++;
+    }
+
+    private InvalidMultipleOrderFormatException formatError() {
+        errorPosition = position;
+        return new InvalidMultipleOrderFormatException();
+    }
+
+    private void skipWhitespace() {
+        while (position < input.length() && Character.isWhitespace(input.charAt(position))) {
+            position++;
+        }
+    }
+
+    /**
+     * Reads the digits of a number, stopping once it is larger than any int.
+     *
+     * @param number a string of digits
+     * @return the value of the number, or a value larger than Integer.MAX_VALUE if it does not fit in an int
+     */
+    private static long parseDigits(String number) {
+        long value = 0;
+        for (int i = 0; i < number.length() && value <= Integer.MAX_VALUE; i++) {
+            value = value * 10 + (number.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Checks if the string is an optional minus sign followed by at least one digit.
+     */
+    private static boolean isNumber(String text) {
+        int start = text.startsWith("-") ? 1 : 0;
+        if (text.length() == start) {
+            return false;
+        }
+        for (int i = start; i < text.length(); i++) {
+            if (!isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isDelimiter(char c) {
+        return c == ':' || c == ',' || c == '[' || c == ']' || c == '"';
+    }
+}
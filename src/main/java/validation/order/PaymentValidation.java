@@ -16,6 +16,7 @@ import exception.order.InvalidPayTypeException;
 import order.Order;
 import ui.Flags;
 import ui.TransactionUi;
+import utility.Money;
 import validation.Validation;
 
 
@@ -157,15 +158,15 @@ public class PaymentValidation extends Validation {
         } else {
             amount = arg.getUserInput();
         }
-        if (!isDouble(amount)) {
+        if (!isMoney(amount)) {
             throw new InvalidPayAmountFormatException();
         } else {
-            Double amountPaid = Double.parseDouble(amount);
+            long amountPaid = Money.parseCents(amount);
 
-            if (amountPaid <= 0.00) {
+            if (amountPaid <= 0 || amount.trim().startsWith("-")) {
                 throw new InvalidPayAmountNegativeException();
             }
-            if (amountPaid < order.getSubTotal()) {
+            if (amountPaid < order.getSubTotalInCents()) {
                 throw new InsufficientPayAmountException();
             }
             if (amount.contains(".")) {
@@ -177,7 +178,7 @@ public class PaymentValidation extends Validation {
             }
             if (arg.getArgumentMap().get("a") != null) {
                 if (arg.getArgumentMap().get("t").equalsIgnoreCase("card")) {
-                    if (amountPaid != order.getSubTotal()) {
+                    if (amountPaid != order.getSubTotalInCents()) {
                         throw new InvalidPaymentAmountForCardException();
                     }
                 }
@@ -200,4 +201,19 @@ public class PaymentValidation extends Validation {
         return true;
     }
 
+    /**
+     * Check if the user input is an amount of money that fits in cents
+     *
+     * @param input user input
+     * @return validation outcome(true/false)
+     */
+    public boolean isMoney(String input) {
+        try {
+            Money.parseCents(input);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        return true;
+    }
+
 }
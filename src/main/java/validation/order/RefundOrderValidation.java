@@ -10,8 +10,6 @@ import order.Order;
 import order.Transaction;
 import validation.Validation;
 
-import java.util.ArrayList;
-
 public class RefundOrderValidation extends Validation {
     private Order refundOrder = new Order();
 
@@ -47,29 +45,19 @@ public class RefundOrderValidation extends Validation {
     public void validateRefund(Command arg, Transaction transaction) throws
             InvalidRefundOrderType, InvalidRefundOrderID, DuplicateArgumentFoundException {
         arg.mapArgumentAlias("i", "id");
-        boolean isValidID = false;
         String orderID = "";
         if (arg.getArgumentString() != null && arg.getArgumentString().length() > 1) {
             orderID = arg.getArgumentMap().get("i").trim();
         } else {
             orderID = arg.getUserInput();
         }
-        ArrayList<Order> orderList = transaction.getOrderList();
-        for (Order order : orderList) {
-            String ID = order.getOrderId();
-            if (ID.equals(orderID)) {
-                isValidID = true;
-                refundOrder = order;
-                break;
-            }
-        }
+        refundOrder = transaction.findOrder(orderID);
 
-        if (isValidID) {
-            if (refundOrder.getStatus().equals("REFUNDED")) {
-                throw new InvalidRefundOrderType();
-            }
-        } else {
+        if (refundOrder == null) {
             throw new InvalidRefundOrderID();
         }
+        if (refundOrder.getStatus().equals("REFUNDED")) {
+            throw new InvalidRefundOrderType();
+        }
     }
 }
@@ -2,6 +2,7 @@ package validation.statistic;
 
 import app.Command;
 import exception.statistic.ConflictFlagException;
+import exception.statistic.InvalidTopException;
 import exception.statistic.MissingRequiredFlagException;
 import exception.statistic.MissingYearException;
 import validation.Validation;
@@ -32,15 +33,28 @@ public class StatisticValidation extends Validation {
         boolean yearExist = command.getArgumentMap().containsKey("year");
         boolean fromExist = command.getArgumentMap().containsKey("from");
         boolean toExist = command.getArgumentMap().containsKey("to");
-        boolean salesExist = command.getArgumentMap().containsKey("sales");
-        boolean rankExist = command.getArgumentMap().containsKey("rank");
 
         if (yearExist && (fromExist || toExist)) {
             throw new ConflictFlagException();
         }
+    }
 
-        if(salesExist && rankExist){
-            throw new ConflictFlagException();
+    /**
+     * Checks that the number of items to rank, if given, is a positive integer.
+     *
+     * @throws InvalidTopException the number of items is not a positive integer
+     */
+    public void validateTop() throws InvalidTopException {
+        if (!command.getArgumentMap().containsKey("top")) {
+            return;
+        }
+
+        try {
+            if (Integer.parseInt(command.getArgumentMap().get("top")) <= 0) {
+                throw new InvalidTopException();
+            }
+        } catch (NumberFormatException e) {
+            throw new InvalidTopException();
         }
     }
 
@@ -0,0 +1,163 @@
+package app;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import item.Menu;
+import order.Transaction;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ApiServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private ApiServer startServer(Menu menu, Transaction transactions) throws IOException {
+        ApiServer server = new ApiServer(menu, transactions, 0);
+        server.start();
+        return server;
+    }
+
+    private HttpResponse<String> send(ApiServer server, String method, String path, String body)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + path))
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static JsonObject json(HttpResponse<String> response) {
+        return JsonParser.parseString(response.body()).getAsJsonObject();
+    }
+
+    @Test
+    void menu_routes_statusAndItems() throws IOException, InterruptedException {
+        Path dir = Files.createTempDirectory("api-test");
+        Menu menu = new Menu(dir.toString(), "menu.json");
+        ApiServer server = startServer(menu, new Transaction(dir.toString(), "orders.json"));
+        try {
+            HttpResponse<String> added = send(server, "POST", "/menu", "{\"name\": \"chicken rice\", \"price\": 2.5}");
+            assertEquals(201, added.statusCode());
+            assertEquals("chicken rice", json(added).getAsJsonObject("item").get("name").getAsString());
+            assertEquals(0, json(added).getAsJsonObject("item").get("index").getAsInt());
+            assertEquals("application/json; charset=utf-8", added.headers().firstValue("Content-Type").get());
+
+            HttpResponse<String> listed = send(server, "GET", "/menu", null);
+            assertEquals(200, listed.statusCode());
+            assertEquals(1, json(listed).getAsJsonArray("items").size());
+
+            HttpResponse<String> updated = send(server, "PUT", "/menu/0", "{\"price\": 3}");
+            assertEquals(200, updated.statusCode());
+            assertEquals(3.0, json(updated).getAsJsonObject("item").get("price").getAsDouble());
+
+            assertEquals(404, send(server, "PUT", "/menu/0%20-n%20x", "{\"price\": 3}").statusCode());
+            assertEquals(400, send(server, "PUT", "/menu/0", "{\"name\": \"a\\\" -p \\\"1\"}").statusCode());
+            assertEquals(400, send(server, "POST", "/menu", "{\"name\": \"tea\", \"price\": \"1 -n x\"}")
+                    .statusCode());
+            assertEquals("chicken rice", menu.getItem(0).getName());
+
+            HttpResponse<String> notJson = send(server, "POST", "/menu", "chicken rice");
+            assertEquals(400, notJson.statusCode());
+            assertFalse(json(notJson).getAsJsonArray("messages").isEmpty());
+
+            assertEquals(405, send(server, "PATCH", "/menu", null).statusCode());
+            assertEquals(404, send(server, "GET", "/menu/0/name", null).statusCode());
+
+            assertEquals(200, send(server, "DELETE", "/menu/0", null).statusCode());
+            assertEquals(0, json(send(server, "GET", "/menu", null)).getAsJsonArray("items").size());
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void orders_paymentAndRefund_statusAndOrder() throws IOException, InterruptedException {
+        Path dir = Files.createTempDirectory("api-test");
+        Menu menu = new Menu(dir.toString(), "menu.json");
+        Transaction transactions = new Transaction(dir.toString(), "orders.json");
+        ApiServer server = startServer(menu, transactions);
+        try {
+            send(server, "POST", "/menu", "{\"name\": \"chicken rice\", \"price\": 2.5}");
+
+            HttpResponse<String> added = send(server, "POST", "/orders",
+                    "{\"items\": [{\"item\": 0, \"quantity\": 2}], \"payment\": {\"amount\": 10, \"type\": \"cash\"}}");
+            assertEquals(201, added.statusCode());
+            JsonObject order = json(added).getAsJsonObject("order");
+            assertEquals("COMPLETED", order.get("status").getAsString());
+            assertEquals("cash", order.get("paymentType").getAsString());
+            assertEquals(5.0, order.get("subtotal").getAsDouble());
+            assertEquals(2.5, order.getAsJsonArray("entries").get(0).getAsJsonObject().get("price").getAsDouble());
+
+            // The entry keeps the price the order was made at
+            send(server, "PUT", "/menu/0", "{\"price\": 4}");
+            String id = order.get("id").getAsString();
+            HttpResponse<String> shown = send(server, "GET", "/orders/" + id, null);
+            assertEquals(200, shown.statusCode());
+            assertEquals(2.5, json(shown).getAsJsonObject("order").getAsJsonArray("entries").get(0)
+                    .getAsJsonObject().get("price").getAsDouble());
+
+            // Without a payment, the order waits for a /pay command that never comes
+            assertEquals(400, send(server, "POST", "/orders", "{\"items\": [{\"item\": 0, \"quantity\": 1}]}")
+                    .statusCode());
+            assertEquals(400, send(server, "POST", "/orders",
+                    "{\"items\": [{\"item\": 0, \"quantity\": 1}], \"payment\": {\"amount\": 1, \"type\": \"cash\"}}")
+                    .statusCode());
+            assertEquals(1, transactions.getOrderList().size());
+            assertEquals(1, json(send(server, "GET", "/orders", null)).getAsJsonArray("orders").size());
+
+            assertEquals(404, send(server, "GET", "/orders/unknown", null).statusCode());
+            assertEquals(404, send(server, "POST", "/orders/" + id + "%20-i%20x/refund", null).statusCode());
+
+            HttpResponse<String> refunded = send(server, "POST", "/orders/" + id + "/refund", null);
+            assertEquals(200, refunded.statusCode());
+            assertEquals("REFUNDED", json(refunded).getAsJsonObject("order").get("status").getAsString());
+            assertEquals(400, send(server, "POST", "/orders/" + id + "/refund", null).statusCode());
+            assertEquals(405, send(server, "DELETE", "/orders/" + id, null).statusCode());
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void report_query_salesAndRankings() throws IOException, InterruptedException {
+        Path dir = Files.createTempDirectory("api-test");
+        Menu menu = new Menu(dir.toString(), "menu.json");
+        ApiServer server = startServer(menu, new Transaction(dir.toString(), "orders.json"));
+        try {
+            send(server, "POST", "/menu", "{\"name\": \"chicken rice\", \"price\": 2.5}");
+            send(server, "POST", "/menu", "{\"name\": \"teh\", \"price\": 1}");
+            send(server, "POST", "/orders", "{\"items\": [{\"item\": 0, \"quantity\": 2}, {\"item\": \"teh\", "
+                    + "\"quantity\": 3}], \"payment\": {\"amount\": 10, \"type\": \"cash\"}}");
+
+            HttpResponse<String> response = send(server, "GET", "/report?year=" + LocalDate.now().getYear()
+                    + "&top=1", null);
+            assertEquals(200, response.statusCode());
+            JsonObject report = json(response).getAsJsonObject("report");
+            assertEquals(8.0, report.get("totalSales").getAsDouble());
+            assertEquals(1, report.getAsJsonArray("topSellingItems").size());
+            assertEquals("chicken rice", report.getAsJsonArray("topSellingItems").get(0).getAsJsonObject()
+                    .get("name").getAsString());
+            assertEquals("teh", report.getAsJsonArray("mostPopularItems").get(0).getAsJsonObject()
+                    .get("name").getAsString());
+            assertEquals(3, report.getAsJsonArray("mostPopularItems").get(0).getAsJsonObject()
+                    .get("value").getAsInt());
+
+            assertEquals(400, send(server, "GET", "/report?from=2024-02-01&to=2024-01-01", null).statusCode());
+            assertEquals(400, send(server, "GET", "/report?year=2024%20--top%201", null).statusCode());
+            assertEquals(405, send(server, "POST", "/report", null).statusCode());
+            assertEquals(404, send(server, "GET", "/report/2024", null).statusCode());
+        } finally {
+            server.stop();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package app;
+
+import item.Menu;
+import order.Transaction;
+import org.junit.jupiter.api.Test;
+import ui.Ui;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScriptRunnerTest {
+
+    /**
+     * A menu that counts how many times it is flushed.
+     */
+    private static class CountingMenu extends Menu {
+        private int flushCount;
+
+        CountingMenu(String dirName, String fileName) {
+            super(dirName, fileName);
+        }
+
+        @Override
+        public synchronized void flush() {
+            flushCount++;
+            super.flush();
+        }
+    }
+
+    /**
+     * Runs the script on the menu and order list, and returns everything printed while it ran.
+     */
+    private String runScript(String script, Menu menu, Transaction transactions, int flushInterval) {
+        StringWriter printed = new StringWriter();
+        Ui.setInput(new BufferedReader(new StringReader(script)));
+        Ui.setOutput(new PrintWriter(printed));
+        try {
+            new ScriptRunner(menu, transactions, flushInterval, false).run();
+        } finally {
+            Ui.resetStreams();
+        }
+        return printed.toString();
+    }
+
+    @Test
+    void run_blankLinesAndComments_skipped() throws IOException {
+        Path dir = Files.createTempDirectory("script-test");
+        Menu menu = new Menu(dir.toString(), "menu.json");
+
+        String printed = runScript("# the lunch menu\n\n/additem -n \"chicken rice\" -p 2.5\n   \n"
+                + "#/additem -n \"teh\" -p 1\n/additem -n \"milo\" -p 1.2\n",
+                menu, new Transaction(dir.toString(), "orders.json"), ScriptRunner.FLUSH_AT_END);
+
+        assertEquals(2, menu.getItems().size());
+        assertTrue(printed.contains("Ran 2 commands"));
+        assertFalse(printed.contains("The script ended while a command was waiting for input."));
+    }
+
+    @Test
+    void run_exitCommand_laterCommandsNotRun() throws IOException {
+        Path dir = Files.createTempDirectory("script-test");
+        Menu menu = new Menu(dir.toString(), "menu.json");
+
+        String printed = runScript("/additem -n \"chicken rice\" -p 2.5\nexit\n/additem -n \"milo\" -p 1.2\n",
+                menu, new Transaction(dir.toString(), "orders.json"), ScriptRunner.FLUSH_AT_END);
+
+        assertEquals(1, menu.getItems().size());
+        assertTrue(printed.contains("Ran 1 commands"));
+    }
+
+    @Test
+    void run_endOfInputWhileWaitingForPayment_endedEarly() throws IOException {
+        Path dir = Files.createTempDirectory("script-test");
+        Menu menu = new Menu(dir.toString(), "menu.json");
+        Transaction transactions = new Transaction(dir.toString(), "orders.json");
+
+        String printed = runScript("/additem -n \"chicken rice\" -p 2.5\n/addorder -I [0:2]\n",
+                menu, transactions, ScriptRunner.FLUSH_AT_END);
+
+        assertTrue(printed.contains("The script ended while a command was waiting for input."));
+        assertTrue(printed.contains("Ran 2 commands"));
+        assertEquals(0, transactions.getOrderList().size());
+    }
+
+    @Test
+    void run_paymentOnNextLine_orderAdded() throws IOException {
+        Path dir = Files.createTempDirectory("script-test");
+        Menu menu = new Menu(dir.toString(), "menu.json");
+        Transaction transactions = new Transaction(dir.toString(), "orders.json");
+
+        String printed = runScript("/additem -n \"chicken rice\" -p 2.5\n/addorder -I [0:2]\n/pay -a 10 -t cash\n",
+                menu, transactions, ScriptRunner.FLUSH_AT_END);
+
+        assertEquals(1, transactions.getOrderList().size());
+        assertTrue(printed.contains("Ran 2 commands"));
+    }
+
+    @Test
+    void run_flushInterval_flushedEveryFewCommands() throws IOException {
+        Path dir = Files.createTempDirectory("script-test");
+        CountingMenu menu = new CountingMenu(dir.toString(), "menu.json");
+
+        runScript("/additem -n \"a\" -p 1\n/additem -n \"b\" -p 1\n/additem -n \"c\" -p 1\n"
+                + "# not a command\n/additem -n \"d\" -p 1\n/additem -n \"e\" -p 1\n",
+                menu, new Transaction(dir.toString(), "orders.json"), 2);
+
+        // Once after the second and fourth commands, and once more when the script ends
+        assertEquals(3, menu.flushCount);
+        assertEquals(5, new Menu(dir.toString(), "menu.json").getItems().size());
+
+        CountingMenu menuSavedAtEnd = new CountingMenu(dir.toString(), "menu.json");
+        runScript("/additem -n \"f\" -p 1\n/additem -n \"g\" -p 1\n/additem -n \"h\" -p 1\n",
+                menuSavedAtEnd, new Transaction(dir.toString(), "orders.json"), ScriptRunner.FLUSH_AT_END);
+        assertEquals(1, menuSavedAtEnd.flushCount);
+    }
+}
@@ -0,0 +1,34 @@
+package item;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BkTreeTest {
+
+    @Test
+    void editDistance_mistypedNames_countsEdits() {
+        assertEquals(0, BkTree.editDistance("milo", "milo"));
+        assertEquals(1, BkTree.editDistance("curri rice", "curry rice"));
+        assertEquals(3, BkTree.editDistance("kitten", "sitting"));
+    }
+
+    @Test
+    void search_mistypedName_closestItemsFirst() {
+        BkTree bkTree = new BkTree();
+        bkTree.add(0, "Curry Rice");
+        bkTree.add(1, "Curry");
+        bkTree.add(2, "Curry Rices");
+        bkTree.add(3, "Teh Tarik");
+
+        assertEquals(List.of(0, 2), bkTree.search("curri rice", 2));
+        assertEquals(List.of(1), bkTree.search("CURY", 1));
+
+        bkTree.remove(0, "Curry Rice");
+        assertEquals(List.of(2), bkTree.search("curri rice", 2));
+        assertTrue(bkTree.search("nasi lemak", 2).isEmpty());
+    }
+}
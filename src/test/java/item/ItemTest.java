@@ -1,11 +1,19 @@
 package item;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import app.Command;
+import com.google.gson.Gson;
 import exception.DuplicateArgumentFoundException;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 class ItemTest {
     Menu menu;
 
@@ -23,15 +31,13 @@ class ItemTest {
         Command command2 = new Command("/additem -p 20.1 -n \"chicken rice test100\"");
         menu.addItem(command2);
 
-        assertEquals("chicken rice test100", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test100", menu.getItem(menu.getIndexCount() - 1).getName());
 
-        assertEquals(20.10, menu.getItem(menu.getItems().size() - 1).getPrice());
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assertEquals(20.10, menu.getItem(menu.getIndexCount() - 1).getPrice());
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test100") : "Item name should be chicken rice test100";
 
-        assertEquals(20.10, menu.getItem(menu.getItems().size() - 1).getPrice());
+        assertEquals(20.10, menu.getItem(menu.getIndexCount() - 1).getPrice());
 
         itemTest2();
         itemTest3();
@@ -73,12 +79,10 @@ class ItemTest {
         Command command = new Command("/additem -p 2kuku0.01 -n \"chicken rice test3\"");
         menu.addItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test100") : "Item name should be chicken rice test100";
 
-        assertEquals("chicken rice test100", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test100", menu.getItem(menu.getIndexCount() - 1).getName());
 
     }
 
@@ -87,103 +91,85 @@ class ItemTest {
         Command command = new Command("/additem -p 20.0001 -n \"chicken rice test4\"");
         menu.addItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test100") : "Item name should be chicken rice test100";
 
-        assertEquals("chicken rice test100", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test100", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest4() throws DuplicateArgumentFoundException {
         // tests valid update item
-        int index = menu.getItems().size() - 1;
+        int index = menu.getIndexCount() - 1;
 
         Command command = new Command("/updateitem -i " + index + " -n \"chicken rice test1000\"");
         menu.updateItem(command);
 
-        assert menu.getItems().
-                get(index)
+        assert menu.getItem(index)
                 .getName().equals("chicken rice test1000") : "Item name should be changed to chicken rice test1000";
 
-        assertEquals("chicken rice test1000", menu.getItems().
-                get(index).getName());
+        assertEquals("chicken rice test1000", menu.getItem(index).getName());
     }
 
     public void itemTest5() throws DuplicateArgumentFoundException {
         // tests max 2dp when updating item
-        int index = menu.getItems().size() - 1;
+        int index = menu.getIndexCount() - 1;
 
         Command command = new Command("/updateitem -i " + index + " -p 2000.001");
         menu.updateItem(command);
-        assert menu.getItems().
-                get(index).getPrice() == 20.1 :
+        assert menu.getItem(index).getPrice() == 20.1 :
                 "Item price should be 20.10";
 
-        assertEquals(20.10, menu.getItems().
-                get(index).getPrice());
+        assertEquals(20.10, menu.getItem(index).getPrice());
     }
 
     public void itemTest6() throws DuplicateArgumentFoundException {
         // tests valid update price
-        int index = menu.getItems().size() - 1;
+        int index = menu.getIndexCount() - 1;
 
         Command command = new Command("/updateitem -i " + index + " -p 123.45");
         menu.updateItem(command);
-        assert menu.getItems().
-                get(index).getPrice() == 123.45 :
+        assert menu.getItem(index).getPrice() == 123.45 :
                 "Item price should be 123.45";
 
-        assertEquals(123.45, menu.getItems().
-                get(index).getPrice());
+        assertEquals(123.45, menu.getItem(index).getPrice());
     }
 
     public void itemTest7() throws DuplicateArgumentFoundException {
         // tests valid update name and price
-        int index = menu.getItems().size() - 1;
+        int index = menu.getIndexCount() - 1;
 
         Command command = new Command("/updateitem -i " + index + " -p 987.65 -n \"itemTest7 name 1 2 3\"");
         menu.updateItem(command);
-        assert menu.getItems().
-                get(index)
+        assert menu.getItem(index)
                 .getName().equals("itemTest7 name 1 2 3") : "Item name should be changed to itemTest7 name 1 2 3";
 
-        assertEquals("itemTest7 name 1 2 3", menu.getItems().
-                get(index).getName());
+        assertEquals("itemTest7 name 1 2 3", menu.getItem(index).getName());
 
-        assert menu.getItems().
-                get(index).getPrice() == 987.65 :
+        assert menu.getItem(index).getPrice() == 987.65 :
                 "Item price should be 987.65";
 
-        assertEquals(987.65, menu.getItems().
-                get(index).getPrice());
+        assertEquals(987.65, menu.getItem(index).getPrice());
     }
 
     public void itemTest8() throws DuplicateArgumentFoundException {
         // tests duplicate name update
-        int index = menu.getItems().size() - 1;
+        int index = menu.getIndexCount() - 1;
         String newName = menu.getItems().
                 get(0).getName();
-        String currName = menu.getItems().
-                get(index).getName();
-        Double currPrice = menu.getItems().
-                get(index).getPrice();
+        String currName = menu.getItem(index).getName();
+        Double currPrice = menu.getItem(index).getPrice();
 
         Command command = new Command("/updateitem -i " + index + " -p 1.23 -n \"" + newName + "\"");
         menu.updateItem(command);
-        assert menu.getItems().
-                get(index)
+        assert menu.getItem(index)
                 .getName().equals(currName) : "Item name should not change due to duplicate.";
 
-        assertEquals(currName, menu.getItems().
-                get(index).getName());
+        assertEquals(currName, menu.getItem(index).getName());
 
-        assert menu.getItems().
-                get(index).getPrice() == currPrice :
+        assert menu.getItem(index).getPrice() == currPrice :
                 "Item price should not change as name was duplicate.";
 
-        assertEquals(currPrice, menu.getItems().
-                get(index).getPrice());
+        assertEquals(currPrice, menu.getItem(index).getPrice());
     }
 
     public void itemTest9() throws DuplicateArgumentFoundException {
@@ -191,21 +177,17 @@ class ItemTest {
         Command command = new Command("/deleteitem -i 1as.sdf");
         menu.deleteItem(command);
 
-        int index = menu.getItems().size() - 1;
+        int index = menu.getIndexCount() - 1;
 
-        assert menu.getItems().
-                get(index)
+        assert menu.getItem(index)
                 .getName().equals("itemTest7 name 1 2 3") : "Item name should be changed to itemTest7 name 1 2 3";
 
-        assertEquals("itemTest7 name 1 2 3", menu.getItems().
-                get(index).getName());
+        assertEquals("itemTest7 name 1 2 3", menu.getItem(index).getName());
 
-        assert menu.getItems().
-                get(index).getPrice() == 987.65 :
+        assert menu.getItem(index).getPrice() == 987.65 :
                 "Item price should be 987.65";
 
-        assertEquals(987.65, menu.getItems().
-                get(index).getPrice());
+        assertEquals(987.65, menu.getItem(index).getPrice());
 
     }
 
@@ -214,17 +196,14 @@ class ItemTest {
         Command command = new Command("/deleteitem -i -1.0");
         menu.deleteItem(command);
 
-        int index = menu.getItems().size() - 1;
+        int index = menu.getIndexCount() - 1;
 
-        assert menu.getItems().
-                get(index)
+        assert menu.getItem(index)
                 .getName().equals("itemTest7 name 1 2 3") : "Item name should be changed to itemTest7 name 1 2 3";
 
-        assertEquals("itemTest7 name 1 2 3", menu.getItems().
-                get(index).getName());
+        assertEquals("itemTest7 name 1 2 3", menu.getItem(index).getName());
 
-        assert menu.getItems().
-                get(index).getPrice() == 987.65 :
+        assert menu.getItem(index).getPrice() == 987.65 :
                 "Item price should be 987.65";
     }
 
@@ -233,24 +212,21 @@ class ItemTest {
         Command command = new Command("/deleteitem -i 2.3");
         menu.deleteItem(command);
 
-        int index = menu.getItems().size() - 1;
+        int index = menu.getIndexCount() - 1;
 
-        assert menu.getItems().
-                get(index)
+        assert menu.getItem(index)
                 .getName().equals("itemTest7 name 1 2 3") : "Item name should be changed to itemTest7 name 1 2 3";
 
-        assertEquals("itemTest7 name 1 2 3", menu.getItems().
-                get(index).getName());
+        assertEquals("itemTest7 name 1 2 3", menu.getItem(index).getName());
 
-        assert menu.getItems().
-                get(index).getPrice() == 987.65 :
+        assert menu.getItem(index).getPrice() == 987.65 :
                 "Item price should be 987.65";
     }
 
     public void itemTest12() throws DuplicateArgumentFoundException {
         //test valid deleteitem
         int menuSize = menu.getItems().size();
-        Command command = new Command("/deleteitem -i " + (menu.getItems().size() - 1));
+        Command command = new Command("/deleteitem -i " + (menu.getIndexCount() - 1));
         menu.deleteItem(command);
 
         assert menuSize != menu.getItems().size() : "Should have 1 item on the menu";
@@ -261,12 +237,10 @@ class ItemTest {
         Command command = new Command("/additem -p 2");
         menu.addItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test") : "Item name should be chicken rice test";
 
-        assertEquals("chicken rice test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest14() throws DuplicateArgumentFoundException {
@@ -274,12 +248,10 @@ class ItemTest {
         Command command = new Command("/additem -n Hokkien Mee test");
         menu.addItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test") : "Item name should be chicken rice test";
 
-        assertEquals("chicken rice test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest15() throws DuplicateArgumentFoundException {
@@ -287,12 +259,10 @@ class ItemTest {
         Command command = new Command("/additem");
         menu.addItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test") : "Item name should be chicken rice test";
 
-        assertEquals("chicken rice test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest16() throws DuplicateArgumentFoundException {
@@ -300,12 +270,10 @@ class ItemTest {
         Command command = new Command("/additem -p 2 -n \"1234\"");
         menu.addItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test") : "Item name should be chicken rice test";
 
-        assertEquals("chicken rice test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest17() throws DuplicateArgumentFoundException {
@@ -313,12 +281,10 @@ class ItemTest {
         Command command = new Command("/additem -p 2 -n \"\"");
         menu.addItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test") : "Item name should be chicken rice test";
 
-        assertEquals("chicken rice test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest18() throws DuplicateArgumentFoundException {
@@ -326,12 +292,10 @@ class ItemTest {
         Command command = new Command("/additem -p -2 -n \"Hokkien Mee test\"");
         menu.addItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test") : "Item name should be chicken rice test";
 
-        assertEquals("chicken rice test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest19() throws DuplicateArgumentFoundException {
@@ -339,12 +303,10 @@ class ItemTest {
         Command command = new Command("/additem -p -n \"chicken\"");
         menu.addItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test") : "Item name should be chicken rice test";
 
-        assertEquals("chicken rice test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest20() throws DuplicateArgumentFoundException {
@@ -352,12 +314,10 @@ class ItemTest {
         Command command = new Command("/deleteitem");
         menu.deleteItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test") : "Item name should be chicken rice test";
 
-        assertEquals("chicken rice test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest21() throws DuplicateArgumentFoundException {
@@ -365,12 +325,10 @@ class ItemTest {
         Command command = new Command("/deleteitem -i 0.0");
         menu.deleteItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test") : "Item name should be chicken rice test";
 
-        assertEquals("chicken rice test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest22() throws DuplicateArgumentFoundException {
@@ -378,12 +336,10 @@ class ItemTest {
         Command command = new Command("/deleteitem -i asdf");
         menu.deleteItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test") : "Item name should be chicken rice test";
 
-        assertEquals("chicken rice test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest23() throws DuplicateArgumentFoundException {
@@ -391,12 +347,10 @@ class ItemTest {
         Command command = new Command("/deleteitem -i");
         menu.deleteItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test") : "Item name should be chicken rice test";
 
-        assertEquals("chicken rice test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest24() throws DuplicateArgumentFoundException {
@@ -404,12 +358,10 @@ class ItemTest {
         Command command = new Command("/updateitem -n \"chicken rice test1000\"");
         menu.updateItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test") : "Item name should be chicken rice test";
 
-        assertEquals("chicken rice test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest25() throws DuplicateArgumentFoundException {
@@ -417,12 +369,10 @@ class ItemTest {
         Command command = new Command("/updateitem -i 0 \"chicken rice test1000\"");
         menu.updateItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test") : "Item name should be chicken rice test";
 
-        assertEquals("chicken rice test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest26() throws DuplicateArgumentFoundException {
@@ -430,12 +380,10 @@ class ItemTest {
         Command command = new Command("/updateitem -i 0 200");
         menu.updateItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getPrice() == 2.5 : "Item name should be chicken rice test";
 
-        assertEquals(2.5, menu.getItems().
-                get(menu.getItems().size() - 1).getPrice());
+        assertEquals(2.5, menu.getItem(menu.getIndexCount() - 1).getPrice());
     }
 
     public void itemTest27() throws DuplicateArgumentFoundException {
@@ -443,12 +391,10 @@ class ItemTest {
         Command command = new Command("/updateitem -i 0 -n");
         menu.updateItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test") : "Item name should be chicken rice test";
 
-        assertEquals("chicken rice test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest28() throws DuplicateArgumentFoundException {
@@ -456,12 +402,10 @@ class ItemTest {
         Command command = new Command("/updateitem -i 0 -p");
         menu.updateItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test") : "Item name should be chicken rice test";
 
-        assertEquals("chicken rice test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest29() throws DuplicateArgumentFoundException {
@@ -469,12 +413,10 @@ class ItemTest {
         Command command = new Command("/updateitem -i 0 -n \"12345\"");
         menu.updateItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test") : "Item name should be chicken rice test";
 
-        assertEquals("chicken rice test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest30() throws DuplicateArgumentFoundException {
@@ -482,12 +424,10 @@ class ItemTest {
         Command command = new Command("/updateitem -i 0 -n\"\"");
         menu.updateItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test") : "Item name should be chicken rice test";
 
-        assertEquals("chicken rice test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest31() throws DuplicateArgumentFoundException {
@@ -495,12 +435,10 @@ class ItemTest {
         Command command = new Command("/updateitem -i 0 -p -23");
         menu.updateItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test") : "Item name should be chicken rice test";
 
-        assertEquals("chicken rice test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest32() throws DuplicateArgumentFoundException {
@@ -508,12 +446,10 @@ class ItemTest {
         Command command = new Command("/updateitem -i 0 -p");
         menu.updateItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("chicken rice test") : "Item name should be chicken rice test";
 
-        assertEquals("chicken rice test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("chicken rice test", menu.getItem(menu.getIndexCount() - 1).getName());
     }
 
     public void itemTest33() throws DuplicateArgumentFoundException {
@@ -521,18 +457,119 @@ class ItemTest {
         Command command = new Command("/updateitem -i 0 -n \"Hokkien Mee test\"");
         menu.updateItem(command);
 
-        assert menu.getItems().
-                get(menu.getItems().size() - 1)
+        assert menu.getItem(menu.getIndexCount() - 1)
                 .getName().equals("Hokkien Mee test") : "Item name should be Hokkien Mee test";
 
-        assertEquals("Hokkien Mee test", menu.getItems().
-                get(menu.getItems().size() - 1).getName());
+        assertEquals("Hokkien Mee test", menu.getItem(menu.getIndexCount() - 1).getName());
+    }
+
+    @Test
+    public void menuIndexTest() throws DuplicateArgumentFoundException, IOException {
+        Path dir = Files.createTempDirectory("menu-test");
+        Menu testMenu = new Menu(dir.toString(), "menu.json");
+        testMenu.appendItem(new Item("Chicken Rice", 3.00));
+        testMenu.appendItem(new Item("Curry Chicken Rice", 5.50));
+        testMenu.appendItem(new Item("Curry", 2.00));
+
+        testMenu.deleteItem(new Command("/deleteitem -i 0"));
+        assertEquals("Curry", testMenu.getItem(2).getName());
+        assertFalse(testMenu.hasItem(0));
+        assertFalse(testMenu.hasItemNamed("chicken rice"));
+
+        assertEquals(2, testMenu.findItemIndex("CURRY"));
+        testMenu.updateItem(new Command("/updateitem -i 2 -n \"Mee Curry\""));
+        assertTrue(testMenu.hasItemNamed("mee curry"));
+        assertEquals(-1, testMenu.findExactItemIndex("curry"));
+    }
+
+    @Test
+    public void menuDeletedSlotTest() throws DuplicateArgumentFoundException, IOException {
+        Path dir = Files.createTempDirectory("menu-test");
+        Menu testMenu = new Menu(dir.toString(), "menu.json");
+        testMenu.appendItem(new Item("Chicken Rice", 3.00));
+        testMenu.appendItem(new Item("Teh", 1.00));
+        testMenu.appendItem(new Item("Milo", 1.20));
+        testMenu.appendItem(new Item("Curry", 2.00));
+
+        assertTrue(testMenu.deleteItem(new Command("/deleteitem -i 1")));
+        assertEquals("Chicken Rice", testMenu.getItem(0).getName());
+        assertEquals("Milo", testMenu.getItem(2).getName());
+        assertEquals("Curry", testMenu.getItem(3).getName());
+        assertEquals(4, testMenu.getIndexCount());
+        assertFalse(testMenu.hasItem(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> testMenu.getItem(1));
+        assertFalse(testMenu.deleteItem(new Command("/deleteitem -i 1")));
+
+        assertTrue(testMenu.deleteItem(new Command("/deleteitem -i 3")));
+        assertEquals(3, testMenu.getIndexCount());
+        // The empty slot before the last item is trimmed along with it
+        assertTrue(testMenu.deleteItem(new Command("/deleteitem -i 2")));
+        assertEquals(1, testMenu.getIndexCount());
+        assertFalse(testMenu.hasItem(1));
+
+        testMenu.appendItem(new Item("Milo Dinosaur", 2.50));
+        testMenu.appendItem(new Item("Kopi", 1.10));
+        assertTrue(testMenu.deleteItem(new Command("/deleteitem -i 1")));
+        assertEquals("Kopi", testMenu.getItem(2).getName());
+
+        Menu reloadedMenu = new Menu(dir.toString(), "menu.json");
+        assertEquals(2, reloadedMenu.getIndexCount());
+        assertEquals("Chicken Rice", reloadedMenu.getItem(0).getName());
+        assertEquals("Kopi", reloadedMenu.getItem(1).getName());
+    }
+
+    @Test
+    public void menuSameNameTest() throws DuplicateArgumentFoundException, IOException {
+        Path dir = Files.createTempDirectory("menu-test");
+        Menu testMenu = new Menu(dir.toString(), "menu.json");
+        testMenu.appendItem(new Item("Curry", 2.00));
+        testMenu.appendItem(new Item("Teh", 1.00));
+        testMenu.appendItem(new Item("CURRY ", 2.50));
+        testMenu.appendItem(new Item("curry", 3.00));
+        assertEquals(0, testMenu.findExactItemIndex("curry"));
+
+        assertTrue(testMenu.deleteItem(new Command("/deleteitem -i 0")));
+        assertTrue(testMenu.hasItemNamed("curry"));
+        assertEquals(2, testMenu.findExactItemIndex("Curry"));
+
+        testMenu.renameItem(2, "Mee Curry");
+        assertEquals(3, testMenu.findExactItemIndex("curry"));
+        assertEquals(2, testMenu.findExactItemIndex("mee curry"));
+
+        assertTrue(testMenu.deleteItem(new Command("/deleteitem -i 3")));
+        assertFalse(testMenu.hasItemNamed("curry"));
+        assertEquals(-1, testMenu.findExactItemIndex("curry"));
+    }
+
+    @Test
+    public void itemJsonTest() {
+        Gson gson = new Gson();
+        String json = gson.toJson(new Item(3, "Teh", 110));
+        assertEquals("{\"id\":3,\"name\":\"Teh\",\"priceInCents\":110}", json);
+        assertEquals(110, gson.fromJson(json, Item.class).getPriceInCents());
+
+        // Files written before prices were kept in cents hold the price in dollars
+        Item legacyItem = gson.fromJson("{\"id\":3,\"name\":\"Teh\",\"price\":1.1}", Item.class);
+        assertEquals(110, legacyItem.getPriceInCents());
+        assertEquals(29, gson.fromJson("{\"name\":\"Kopi\",\"price\":0.29}", Item.class).getPriceInCents());
+    }
+
+    @Test
+    public void menuCommandResultTest() throws DuplicateArgumentFoundException, IOException {
+        Path dir = Files.createTempDirectory("menu-test");
+        Menu testMenu = new Menu(dir.toString(), "menu.json");
+
+        assertTrue(testMenu.addItem(new Command("/additem -n \"Chicken Rice\" -p 3.00")));
+        assertFalse(testMenu.addItem(new Command("/additem -n \"chicken rice\" -p 3.00")));
+        assertFalse(testMenu.updateItem(new Command("/updateitem -i 1 -p 2.00")));
+        assertTrue(testMenu.updateItem(new Command("/updateitem -i 0 -p 2.00")));
+        assertFalse(testMenu.deleteItem(new Command("/deleteitem -i 1")));
+        assertTrue(testMenu.deleteItem(new Command("/deleteitem -i 0")));
     }
 
     public void cleanup() throws DuplicateArgumentFoundException {
         // clean up menu
-        int menuSize = menu.getItems().size();
-        Command command = new Command("/deleteitem -i " + (menuSize-1));
+        Command command = new Command("/deleteitem -i " + (menu.getIndexCount() - 1));
         menu.deleteItem(command);
 
     }
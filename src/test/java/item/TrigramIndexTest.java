@@ -0,0 +1,29 @@
+package item;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrigramIndexTest {
+
+    @Test
+    void findCandidates_indexedNames_intersectsSequences() {
+        TrigramIndex trigramIndex = new TrigramIndex();
+        trigramIndex.add(0, "Chicken Rice");
+        trigramIndex.add(1, "Curry Chicken Rice");
+        trigramIndex.add(2, "Fried Rice");
+        trigramIndex.add(3, "Teh Tarik");
+
+        assertEquals(List.of(0, 1), trigramIndex.findCandidates("CHICKEN"));
+        assertEquals(List.of(0, 1, 2), trigramIndex.findCandidates("rice"));
+        assertTrue(trigramIndex.findCandidates("noodle").isEmpty());
+
+        trigramIndex.remove(0, "Chicken Rice");
+        trigramIndex.add(0, "Chicken Noodle");
+        assertEquals(List.of(1), trigramIndex.findCandidates("chicken rice"));
+        assertEquals(List.of(0), trigramIndex.findCandidates("noodle"));
+    }
+}
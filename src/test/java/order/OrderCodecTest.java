@@ -0,0 +1,60 @@
+package order;
+
+import exception.FileIsCorruptedException;
+import exception.FileIsEmptyException;
+import item.Item;
+import org.junit.jupiter.api.Test;
+import utility.Store;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderCodecTest {
+
+    @Test
+    void loadRecords_savedOrders_ordersUnchanged() throws IOException, FileIsEmptyException, FileIsCorruptedException {
+        Path dir = Files.createTempDirectory("order-codec-test");
+        Store expectedStore = new Store(dir.toString(), "expected.json");
+        Store jsonStore = new Store(dir.toString(), "orders.json");
+        Store binaryStore = new Store(dir.toString(), "orders.bin");
+
+        ArrayList<OrderEntry> orderEntries = new ArrayList<>();
+        orderEntries.add(new OrderEntry(new Item(1, "chicken rice", 250), 2));
+        orderEntries.add(new OrderEntry(Item.NO_ID, 500, 1, new Item(Item.NO_ID, "bubble tea", 500)));
+        Order order = new Order(orderEntries);
+        order.setPaymentType("cash");
+        Order refundedOrder = new Order(new ArrayList<>());
+        refundedOrder.setStatus("REFUNDED");
+        Order customOrder = new Order("order 3", order.getDateTime(), new ArrayList<>(), "ON HOLD", null);
+
+        ArrayList<Order> orders = new ArrayList<>();
+        orders.add(order);
+        orders.add(refundedOrder);
+        orders.add(customOrder);
+        for (Order savedOrder : orders) {
+            savedOrder.computeTotals();
+        }
+        expectedStore.save(orders);
+        ArrayList<Order> expectedOrders = expectedStore.loadList(Order.class);
+        expectedStore.save(expectedOrders);
+
+        binaryStore.saveRecords(expectedOrders, new OrderCodec());
+        ArrayList<Order> loadedOrders = binaryStore.loadRecords(new OrderCodec());
+        jsonStore.save(loadedOrders);
+        assertEquals(Files.readString(dir.resolve("expected.json")), Files.readString(dir.resolve("orders.json")));
+
+        Order loadedOrder = loadedOrders.get(0);
+        assertEquals(order.getOrderId(), loadedOrder.getOrderId());
+        assertEquals(order.getDateTime(), loadedOrder.getDateTime());
+        assertEquals(1000, loadedOrder.getSubTotalInCents());
+        assertEquals("bubble tea", loadedOrder.getOrderEntries().get(1).getItem().getName());
+        assertEquals("REFUNDED", loadedOrders.get(1).getStatus());
+        assertEquals("ON HOLD", loadedOrders.get(2).getStatus());
+        assertTrue(Files.size(dir.resolve("orders.bin")) < Files.size(dir.resolve("orders.json")));
+    }
+}
@@ -1,11 +1,19 @@
 package order;
 
+import app.Command;
+import com.google.gson.Gson;
+import exception.DuplicateArgumentFoundException;
 import item.Item;
+import item.Menu;
 import org.junit.jupiter.api.Test;
+import ui.TransactionUi;
+import utility.Parser;
 
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class OrderTest {
 
@@ -21,6 +29,21 @@ public class OrderTest {
 
     }
 
+    @Test
+    void orderEntryJsonTest() {
+        Gson gson = new Gson();
+        String json = gson.toJson(new OrderEntry(new Item(4, "chicken rice", 250), 2));
+        assertEquals("{\"itemId\":4,\"unitPriceInCents\":250,\"quantity\":2}", json);
+        assertEquals(500, gson.fromJson(json, OrderEntry.class).getTotalInCents());
+
+        // Entries written before prices were kept in cents hold the unit price in dollars
+        OrderEntry legacyEntry = gson.fromJson("{\"itemId\":4,\"unitPrice\":2.5,\"quantity\":2}", OrderEntry.class);
+        assertEquals(250, legacyEntry.getUnitPriceInCents());
+        OrderEntry itemCopyEntry = gson.fromJson("{\"item\":{\"name\":\"teh\",\"price\":1.2},\"quantity\":3}",
+                OrderEntry.class);
+        assertEquals(360, itemCopyEntry.getTotalInCents());
+    }
+
     @Test
     void orderTest() {
 
@@ -73,4 +96,68 @@ public class OrderTest {
 
     }
 
+    @Test
+    void orderTotalsTest() {
+        Item item1 = new Item("chicken rice", 2.35);
+        Item item2 = new Item("teh", 0.5);
+
+        ArrayList<OrderEntry> orderEntries = new ArrayList<>();
+        orderEntries.add(new OrderEntry(item1, 3));
+        orderEntries.add(new OrderEntry(item2, 4));
+
+        Order order = new Order(orderEntries);
+
+        assertEquals(905, order.getSubTotalInCents());
+        assertEquals(2, order.getLineCount());
+        assertEquals(7, order.getItemCount());
+
+        Parser parser = new Parser();
+        Order savedOrder = parser.jsonParse(parser.jsonStringify(order), Order.class);
+        assertEquals(905, savedOrder.getSubTotalInCents());
+        assertEquals(7, savedOrder.getItemCount());
+    }
+
+    @Test
+    void addedEntriesClearCachedTotalsTest() {
+        Order order = new Order();
+        assertEquals(0, order.getSubTotalInCents());
+        assertEquals(0, order.getLineCount());
+
+        ArrayList<OrderEntry> orderEntries = new ArrayList<>();
+        orderEntries.add(new OrderEntry(new Item("chicken rice", 2.35), 3));
+        orderEntries.add(new OrderEntry(new Item("teh", 0.5), 4));
+        order.handleMultipleAddOrders(orderEntries);
+
+        assertEquals(2, order.getOrderEntries().size());
+        assertEquals(905, order.getSubTotalInCents());
+        assertEquals(2, order.getLineCount());
+        assertEquals(7, order.getItemCount());
+
+        ArrayList<OrderEntry> moreEntries = new ArrayList<>();
+        moreEntries.add(new OrderEntry(new Item("milo", 1.2), 1));
+        order.handleMultipleAddOrders(moreEntries);
+
+        assertEquals(1025, order.getSubTotalInCents());
+        assertEquals(3, order.getLineCount());
+        assertEquals(8, order.getItemCount());
+    }
+
+    @Test
+    void addMultipleOrdersTest() throws DuplicateArgumentFoundException {
+        Menu menu = new Menu("./datastore-test", "menu-test.json");
+        TransactionUi transactionUi = new TransactionUi();
+
+        Order order = new Order();
+        assertTrue(order.addOrder(new Command("/addorder -I [ 1 : 2, \"milo\":3 ,chicken rice:1 ]"),
+                menu, transactionUi));
+        assertEquals(3, order.getLineCount());
+        assertEquals(menu.getItem(1).getName(), order.getOrderEntries().get(0).getItem().getName());
+        assertEquals(6, order.getItemCount());
+
+        assertFalse(new Order().addOrder(new Command("/addorder -I [1:2,,3:4]"), menu, transactionUi));
+        assertFalse(new Order().addOrder(new Command("/addorder -I [1:2] extra"), menu, transactionUi));
+        assertFalse(new Order().addOrder(new Command("/addorder -I [1:0]"), menu, transactionUi));
+        assertFalse(new Order().addOrder(new Command("/addorder -I [999:1]"), menu, transactionUi));
+    }
+
 }
@@ -0,0 +1,106 @@
+package order;
+
+import org.junit.jupiter.api.Test;
+import utility.DateUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OrderTimeIndexTest {
+
+    @Test
+    void getOrdersBetweenTest() {
+        Transaction transaction = new Transaction("./datastore-test", "orders-test.json");
+        LocalDateTime startDate = DateUtils.stringToDate("01/03/2023");
+        LocalDateTime endDate = DateUtils.getEndOfDay(DateUtils.stringToDate("01/07/2023"));
+
+        int expectedCount = 0;
+        for (Order order : transaction.getOrderList()) {
+            if (DateUtils.isBetween(order.getDateTime(), startDate, endDate)) {
+                expectedCount++;
+            }
+        }
+
+        List<Order> orders = transaction.getOrdersBetween(startDate, endDate);
+        assertEquals(expectedCount, orders.size());
+        for (int i = 1; i < orders.size(); i++) {
+            assertFalse(orders.get(i).getDateTime().isBefore(orders.get(i - 1).getDateTime()));
+        }
+    }
+
+    @Test
+    void getOrdersBetweenEmptyRangeTest() {
+        OrderTimeIndex timeIndex = new OrderTimeIndex();
+        timeIndex.add(new Order());
+
+        LocalDateTime startDate = DateUtils.stringToDate("01/01/2000");
+        LocalDateTime endDate = DateUtils.getEndOfDay(startDate);
+        assertTrue(timeIndex.getOrdersBetween(startDate, endDate).isEmpty());
+        assertEquals(1, timeIndex.getOrdersBetween(startDate, LocalDateTime.now()).size());
+    }
+
+    @Test
+    void snapshotUnchangedByAppendTest() {
+        Transaction transaction = new Transaction();
+        for (int i = 0; i < 1500; i++) {
+            transaction.appendOrder(new Order(new ArrayList<>()));
+        }
+
+        LocalDateTime startDate = DateUtils.stringToDate("01/01/2000");
+        List<Order> orders = transaction.getOrderList();
+        List<Order> ordersInRange = transaction.getOrdersBetween(startDate, LocalDateTime.now());
+        Order lastOrder = orders.get(orders.size() - 1);
+
+        for (int i = 0; i < 1500; i++) {
+            transaction.appendOrder(new Order(new ArrayList<>()));
+        }
+
+        assertEquals(1500, orders.size());
+        assertEquals(1500, ordersInRange.size());
+        assertEquals(lastOrder, orders.get(1499));
+        assertEquals(3000, transaction.getOrderList().size());
+        assertEquals(lastOrder, transaction.getOrderList().subList(1000, 2000).get(499));
+    }
+
+    @Test
+    void outOfOrderAddTest() {
+        LocalDateTime start = DateUtils.stringToDate("01/03/2023");
+        OrderTimeIndex timeIndex = new OrderTimeIndex();
+        List<Order> snapshot = null;
+        Order firstLateOrder = null;
+
+        // Every third order is made a few orders before it is added, across segment boundaries
+        for (int i = 0; i < 3000; i++) {
+            int minute = i % 3 == 2 ? i - 5 : i;
+            Order order = new Order(null, start.plusMinutes(minute), new ArrayList<>(), "COMPLETED", "cash");
+            timeIndex.add(order);
+            if (i == 1500) {
+                snapshot = timeIndex.snapshot();
+            } else if (i == 1502) {
+                firstLateOrder = order;
+            }
+        }
+
+        List<Order> orders = timeIndex.snapshot();
+        assertEquals(3000, orders.size());
+        for (int i = 1; i < orders.size(); i++) {
+            assertFalse(orders.get(i).getDateTime().isBefore(orders.get(i - 1).getDateTime()));
+        }
+        // An order made at the same time as an earlier one goes after it
+        assertEquals(start.plusMinutes(1497), orders.get(1498).getDateTime());
+        assertEquals(firstLateOrder, orders.get(1499));
+
+        assertEquals(1501, snapshot.size());
+        for (int i = 1; i < snapshot.size(); i++) {
+            assertFalse(snapshot.get(i).getDateTime().isBefore(snapshot.get(i - 1).getDateTime()));
+        }
+        assertEquals(start.plusMinutes(1500), snapshot.get(1500).getDateTime());
+
+        assertEquals(10, timeIndex.getOrdersBetween(start.plusMinutes(1000), start.plusMinutes(1010)).size());
+    }
+}
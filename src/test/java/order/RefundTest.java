@@ -6,10 +6,17 @@ import item.Item;
 import org.junit.jupiter.api.Test;
 import payment.Refund;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class RefundTest {
     @Test
@@ -119,5 +126,29 @@ public class RefundTest {
         assertThrows(NullPointerException.class, () -> refund.getOrder(arg, transaction));
     }
 
+    @Test
+    void concurrentRefundOrderTest() throws Exception {
+        Transaction transaction = new Transaction();
+        ArrayList<OrderEntry> orderEntries = new ArrayList<>();
+        orderEntries.add(new OrderEntry(new Item("chicken rice", 2.00), 10));
+        Order order = new Order(orderEntries);
+        transaction.appendOrder(order);
 
+        ExecutorService terminals = Executors.newFixedThreadPool(8);
+        List<Callable<Boolean>> refunds = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            refunds.add(() -> transaction.refundOrder(order));
+        }
+
+        int refundCount = 0;
+        for (Future<Boolean> isRefunded : terminals.invokeAll(refunds)) {
+            refundCount += isRefunded.get() ? 1 : 0;
+        }
+        terminals.shutdown();
+
+        LocalDate today = order.getDateTime().toLocalDate();
+        assertEquals(1, refundCount);
+        assertEquals(0, transaction.getSalesRollup().getTotalSales(today, today));
+        assertTrue(transaction.getSalesRollup().getDailySales(today, today).isEmpty());
+    }
 }
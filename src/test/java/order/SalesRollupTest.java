@@ -0,0 +1,51 @@
+package order;
+
+import item.Item;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SalesRollupTest {
+
+    @Test
+    void salesRollupRefundTest() {
+        Item item1 = new Item("chicken rice", 2.50);
+        ArrayList<OrderEntry> orderEntries = new ArrayList<>();
+        orderEntries.add(new OrderEntry(item1, 4));
+        Order order = new Order(orderEntries);
+
+        Transaction transaction = new Transaction();
+        transaction.appendOrder(order);
+
+        LocalDate today = order.getDateTime().toLocalDate();
+        SalesRollup salesRollup = transaction.getSalesRollup();
+        assertEquals(1000, salesRollup.getTotalSales(today, today));
+        assertEquals(1000, salesRollup.getMonthlySales(today, today).get(today.withDayOfMonth(1)));
+
+        transaction.refundOrder(order);
+        assertEquals(0, salesRollup.getTotalSales(today, today));
+        assertTrue(salesRollup.getDailySales(today, today).isEmpty());
+    }
+
+    @Test
+    void salesRollupMatchesOrdersTest() {
+        Transaction transaction = new Transaction("./datastore-test", "orders-test.json");
+        LocalDate startDate = LocalDate.of(2023, 1, 1);
+        LocalDate endDate = LocalDate.of(2023, 12, 31);
+
+        long expectedSales = 0;
+        for (Order order : transaction.getOrderList()) {
+            LocalDate orderDate = order.getDateTime().toLocalDate();
+            boolean isWithinRange = !orderDate.isBefore(startDate) && !orderDate.isAfter(endDate);
+            if (isWithinRange && order.getStatus().equals("COMPLETED")) {
+                expectedSales += Math.round(order.getSubTotal() * 100);
+            }
+        }
+
+        assertEquals(expectedSales, transaction.getSalesRollup().getTotalSales(startDate, endDate));
+    }
+}
@@ -1,11 +1,21 @@
 package order;
 
 import item.Item;
+import item.Menu;
 import org.junit.jupiter.api.Test;
-
+import utility.Journal;
+import utility.PersistenceService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class TransactionTest {
 
@@ -82,4 +92,118 @@ public class TransactionTest {
                 .getOrderEntries().get(1).getItem().getPrice());
     }
 
+    @Test
+    void transactionJournalReplayTest() {
+        Item item1 = new Item("chicken rice", 2.00);
+
+        ArrayList<OrderEntry> orderEntries = new ArrayList<>();
+        orderEntries.add(new OrderEntry(item1, 3));
+        Order order = new Order(orderEntries);
+
+        Transaction transaction = new Transaction("orders.json");
+        transaction.appendOrder(order);
+        order.setStatus("REFUNDED");
+        transaction.updateOrder(order);
+
+        Transaction reloadedTransaction = new Transaction("orders.json");
+        Order reloadedOrder = reloadedTransaction.getOrderList().get(reloadedTransaction.getOrderList().size() - 1);
+
+        assertEquals(order.getOrderId(), reloadedOrder.getOrderId());
+        assertEquals("REFUNDED", reloadedOrder.getStatus());
+        assertEquals(6, reloadedOrder.getSubTotal());
+    }
+
+    @Test
+    void transactionJournalReplayOverCheckpointTest() throws IOException {
+        Files.deleteIfExists(Paths.get("./datastore", "replay-test.json"));
+        Files.deleteIfExists(Paths.get("./datastore", "replay-test.json.bak"));
+        Files.deleteIfExists(Paths.get("./datastore", "replay-test-rollup.json"));
+        Files.deleteIfExists(Paths.get("./datastore", "replay-test-rollup.json.bak"));
+
+        ArrayList<OrderEntry> orderEntries = new ArrayList<>();
+        orderEntries.add(new OrderEntry(new Item("chicken rice", 2.00), 3));
+        Order order = new Order(orderEntries);
+
+        Transaction transaction = new Transaction("replay-test.json");
+        transaction.appendOrder(order);
+        transaction.save();
+
+        // A crash after the save but before the journal was cleared leaves the record behind
+        new Journal("replay-test.json").append(OrderJournalRecord.ofAppend(order));
+
+        Transaction reloadedTransaction = new Transaction("replay-test.json");
+        assertEquals(1, reloadedTransaction.getOrderList().size());
+        assertEquals(order.getOrderId(), reloadedTransaction.getOrderList().get(0).getOrderId());
+        LocalDate today = order.getDateTime().toLocalDate();
+        assertEquals(600, reloadedTransaction.getSalesRollup().getTotalSales(today, today));
+    }
+
+    @Test
+    void transactionBackgroundSaveTest() throws IOException {
+        PersistenceService defaultService = PersistenceService.getService();
+        PersistenceService.setService(new PersistenceService());
+        PersistenceService.getService().startInBackground();
+        try {
+            Item item1 = new Item("chicken rice", 2.00);
+            Transaction transaction = new Transaction("orders.json");
+            ArrayList<Order> orders = new ArrayList<>();
+            for (int i = 0; i < 150; i++) {
+                ArrayList<OrderEntry> orderEntries = new ArrayList<>();
+                orderEntries.add(new OrderEntry(item1, i + 1));
+                Order order = new Order(orderEntries);
+                transaction.appendOrder(order);
+                orders.add(order);
+            }
+            transaction.refundOrder(orders.get(0));
+            PersistenceService.getService().awaitDurable();
+
+            Transaction reloadedTransaction = new Transaction("orders.json");
+            for (Order order : orders) {
+                Order reloadedOrder = reloadedTransaction.findOrder(order.getOrderId());
+                assertEquals(order.getSubTotal(), reloadedOrder.getSubTotal());
+                assertEquals(order.getStatus(), reloadedOrder.getStatus());
+            }
+            assertEquals("REFUNDED", reloadedTransaction.findOrder(orders.get(0).getOrderId()).getStatus());
+        } finally {
+            PersistenceService.setService(defaultService);
+        }
+    }
+
+    @Test
+    void transactionFindOrderTest() {
+        Item item1 = new Item("chicken rice", 2.00);
+
+        ArrayList<OrderEntry> orderEntries = new ArrayList<>();
+        orderEntries.add(new OrderEntry(item1, 3));
+        Order order = new Order(orderEntries);
+
+        Transaction transaction = new Transaction("orders.json");
+        transaction.appendOrder(order);
+
+        assertEquals(order, transaction.findOrder(order.getOrderId()));
+        assertNull(transaction.findOrder("invalidID"));
+
+        Transaction reloadedTransaction = new Transaction("orders.json");
+        assertEquals(order.getOrderId(), reloadedTransaction.findOrder(order.getOrderId()).getOrderId());
+    }
+
+    @Test
+    void transactionResolveItemsTest() throws IOException {
+        Path dir = Files.createTempDirectory("transaction-test");
+        Files.copy(Paths.get("./datastore-test", "menu-test.json"), dir.resolve("menu-test.json"));
+        Files.copy(Paths.get("./datastore-test", "orders-test.json"), dir.resolve("orders-test.json"));
+
+        Menu menu = new Menu(dir.toString(), "menu-test.json");
+        Transaction transaction = new Transaction(dir.toString(), "orders-test.json");
+        double subTotal = transaction.getOrderList().get(0).getSubTotal();
+        String itemName = transaction.getOrderList().get(0).getOrderEntries().get(0).getItem().getName();
+        transaction.resolveItems(menu);
+
+        Menu reloadedMenu = new Menu(dir.toString(), "menu-test.json");
+        Transaction reloadedTransaction = new Transaction(dir.toString(), "orders-test.json");
+        OrderEntry orderEntry = reloadedTransaction.getOrderList().get(0).getOrderEntries().get(0);
+        assertEquals(itemName, reloadedMenu.getItemById(orderEntry.getItemId()).getName());
+        assertEquals(subTotal, reloadedTransaction.getOrderList().get(0).getSubTotal());
+        assertFalse(Files.readString(dir.resolve("orders-test.json")).contains("\"item\""));
+    }
 }
@@ -0,0 +1,41 @@
+package statistic;
+
+import item.Item;
+import order.Order;
+import order.OrderEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ItemAggregationTaskTest {
+
+    @Test
+    void parallelTotalsMatchSequentialTotals() {
+        List<Item> items = new ArrayList<>();
+        items.add(new Item("chicken rice", 2.50));
+        items.add(new Item("bubble tea", 5.00));
+        Item retiredItem = new Item("kopi", 1.20);
+
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            ArrayList<OrderEntry> orderEntries = new ArrayList<>();
+            orderEntries.add(new OrderEntry(items.get(i % 2), i % 3 + 1));
+            orderEntries.add(new OrderEntry(retiredItem, 1));
+            orders.add(new Order(orderEntries));
+        }
+
+        ItemIndex itemIndex = ItemTotals.indexItems(items);
+        ItemTotals sequentialTotals = new ItemTotals(itemIndex);
+        sequentialTotals.addOrders(orders, 0, orders.size());
+        ItemTotals parallelTotals = ForkJoinPool.commonPool().invoke(
+                new ItemAggregationTask(orders, 0, orders.size(), itemIndex));
+
+        assertEquals(sequentialTotals.getQuantities(), parallelTotals.getQuantities());
+        assertEquals(20000, parallelTotals.getQuantities().get("kopi"));
+        assertEquals(sequentialTotals.getSales().get("bubble tea"), parallelTotals.getSales().get("bubble tea"), 1e-6);
+    }
+}
@@ -8,6 +8,8 @@ import item.Menu;
 import order.Transaction;
 import org.junit.jupiter.api.Test;
 
+import java.util.PriorityQueue;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 
@@ -51,4 +53,24 @@ class RankReportTest {
             System.out.println("ERROR");
         }
     }
+
+    @Test
+    void rankByPopularityTop() {
+        this.menu = new Menu("./datastore-test", "menu-test.json");
+        this.transactions = new Transaction("./datastore-test", "orders-test.json");
+
+        try {
+            Command c = new Command("/report -r popular -y 2023 --top 4");
+            RankReport rr = new RankReport(c, transactions, menu);
+            PriorityQueue<ItemRank> rank = rr.rankByPopularity(4);
+
+            assertEquals(4, rank.size());
+            assertEquals("Teh Tarik", rank.poll().getName());
+            assertEquals("Curry rice", rank.poll().getName());
+            assertEquals("Mee Rubus", rank.poll().getName());
+            assertEquals("Milo", rank.poll().getName());
+        } catch (StartAfterEndDateException | ConflictFlagException | DuplicateArgumentFoundException e) {
+            System.out.println("ERROR");
+        }
+    }
 }
@@ -0,0 +1,32 @@
+package statistic;
+
+import item.Menu;
+import order.Transaction;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReportEngineTest {
+
+    @Test
+    void runPlannedMetrics() {
+        Menu menu = new Menu("./datastore-test", "menu-test.json");
+        Transaction transactions = new Transaction("./datastore-test", "orders-test.json");
+        LocalDateTime startDate = LocalDateTime.of(2023, 1, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2023, 12, 31, 23, 59, 59, 999999999);
+
+        ReportEngine reportEngine = new ReportEngine(transactions, menu, startDate, endDate);
+        reportEngine.plan(ReportEngine.Metric.TOTAL_SALES);
+        reportEngine.plan(ReportEngine.Metric.MONTHLY_SALES);
+        reportEngine.plan(ReportEngine.Metric.ITEM_QUANTITY);
+        reportEngine.plan(ReportEngine.Metric.ITEM_SALES);
+        reportEngine.run();
+
+        assertEquals(286.5, reportEngine.getTotalSales());
+        assertEquals(101.4, reportEngine.getMonthlySales().get(LocalDateTime.of(2023, 3, 1, 0, 0)));
+        assertEquals(26, reportEngine.getItemQuantities().get("Teh Tarik"));
+        assertEquals(menu.getItems().size(), reportEngine.getItemSales().size());
+    }
+}
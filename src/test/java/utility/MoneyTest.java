@@ -0,0 +1,34 @@
+package utility;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+
+    @Test
+    void toCents_dollars_roundedToNearestCent() {
+        assertEquals(235, Money.toCents(2.35));
+        assertEquals(30, Money.toCents(0.1 + 0.2));
+        assertEquals(69341550, Money.toCents(693415.5));
+    }
+
+    @Test
+    void parseCents_userInput_extraDigitsDropped() {
+        assertEquals(705, Money.parseCents("7.05"));
+        assertEquals(1000, Money.parseCents("10"));
+        assertEquals(705, Money.parseCents("7.059"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("abc"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("1e400"));
+    }
+
+    @Test
+    void toDollars_sumOfCents_exact() {
+        long total = 0;
+        for (int i = 0; i < 1000; i++) {
+            total += Money.toCents(0.1);
+        }
+        assertEquals(100.0, Money.toDollars(total));
+    }
+}
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ParserTest {
@@ -77,4 +79,25 @@ class ParserTest {
         Map<String, String> argMap = p.formatArguments(arguments);
         assertEquals("[Chicken rice:2,Noodle:1, 3:4]", argMap.get("I"));
     }
+
+    @Test
+    void formatArguments_flagsWithoutValues() throws DuplicateArgumentFoundException {
+        Parser p = new Parser();
+
+        String arguments = "ignored -a --b \"quoted value\" -c\t\"unclosed -d";
+
+        Map<String, String> argMap = p.formatArguments(arguments);
+        assertEquals(4, argMap.size());
+        assertNull(argMap.get("a"));
+        assertEquals("quoted value", argMap.get("b"));
+        assertEquals("unclosed", argMap.get("c"));
+        assertNull(argMap.get("d"));
+    }
+
+    @Test
+    void formatArguments_duplicateFlag() {
+        Parser p = new Parser();
+
+        assertThrows(DuplicateArgumentFoundException.class, () -> p.formatArguments("-a 1 --a 2"));
+    }
 }
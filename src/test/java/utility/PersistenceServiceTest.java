@@ -0,0 +1,50 @@
+package utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PersistenceServiceTest {
+
+    @Test
+    void awaitDurable_failedTask_failureThrownOnce() throws IOException {
+        PersistenceService service = new PersistenceService();
+        service.startInBackground();
+
+        service.submit(() -> {
+            throw new IllegalStateException("disk full");
+        });
+        IOException failure = assertThrows(IOException.class, service::awaitDurable);
+        assertEquals("disk full", failure.getMessage());
+        service.awaitDurable();
+
+        service.submit(() -> service.reportFailure(new IOException("data file is read-only")));
+        failure = assertThrows(IOException.class, service::awaitDurable);
+        assertEquals("data file is read-only", failure.getMessage());
+    }
+
+    @Test
+    void submit_writerStopped_taskRunInline() throws IOException, InterruptedException {
+        PersistenceService service = new PersistenceService();
+        service.startInBackground();
+
+        List<Thread> threads = new ArrayList<>();
+        service.submit(() -> threads.add(Thread.currentThread()));
+        service.awaitDurable();
+        Thread writer = threads.get(0);
+
+        // The writer stops once it next waits for a task
+        service.submit(() -> Thread.currentThread().interrupt());
+        service.awaitDurable();
+        writer.join(5000);
+
+        service.submit(() -> threads.add(Thread.currentThread()));
+        assertEquals(2, threads.size());
+        assertEquals(Thread.currentThread(), threads.get(1));
+    }
+}
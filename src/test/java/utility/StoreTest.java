@@ -1,10 +1,181 @@
 package utility;
+
+import com.google.gson.reflect.TypeToken;
+import exception.FileIsCorruptedException;
+import exception.FileIsEmptyException;
+import item.Item;
 import org.junit.jupiter.api.Test;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 
 class StoreTest {
+    private final Type type = new TypeToken<ArrayList<Item>>() {
+    }.getType();
+
+    private final RecordCodec<Item> itemCodec = new RecordCodec<>() {
+        @Override
+        public void write(Item item, DataOutput out) throws IOException {
+            out.writeInt(item.getId());
+            out.writeUTF(item.getName());
+            out.writeLong(item.getPriceInCents());
+        }
+
+        @Override
+        public Item read(DataInput in) throws IOException {
+            return new Item(in.readInt(), in.readUTF(), in.readLong());
+        }
+    };
+
+    @Test
+    void save_order() throws IOException, FileIsEmptyException, FileIsCorruptedException {
+        Path dir = Files.createTempDirectory("store-test");
+        Store store = new Store(dir.toString(), "menu.json");
+
+        ArrayList<Item> items = new ArrayList<>();
+        items.add(new Item("chicken rice", 2.50));
+        store.save(items);
+
+        ArrayList<Item> loadedItems = store.load(type);
+        assertEquals("chicken rice", loadedItems.get(0).getName());
+        assertEquals(2.50, loadedItems.get(0).getPrice());
+    }
+
+    @Test
+    void loadList_savedItems_itemsLoaded() throws IOException, FileIsEmptyException, FileIsCorruptedException {
+        Path dir = Files.createTempDirectory("store-test");
+        Store store = new Store(dir.toString(), "menu.json");
+
+        ArrayList<Item> items = new ArrayList<>();
+        items.add(new Item("chicken rice", 2.50));
+        items.add(new Item("bubble tea", 5.00));
+        store.save(items);
+
+        ArrayList<Item> loadedItems = store.loadList(Item.class);
+        assertEquals(2, loadedItems.size());
+        assertEquals("bubble tea", loadedItems.get(1).getName());
+        assertEquals(5.00, loadedItems.get(1).getPrice());
+    }
+
+    @Test
+    void load_corruptedFile_backupLoaded() throws IOException, FileIsEmptyException, FileIsCorruptedException {
+        Path dir = Files.createTempDirectory("store-test");
+        Store store = new Store(dir.toString(), "menu.json");
+
+        ArrayList<Item> items = new ArrayList<>();
+        items.add(new Item("chicken rice", 2.50));
+        store.save(items);
+        items.add(new Item("bubble tea", 5.00));
+        store.save(items);
+
+        Path file = dir.resolve("menu.json");
+        String content = Files.readString(file);
+        Files.write(file, content.replace("bubble tea", "bubble tee").getBytes(StandardCharsets.UTF_8));
+
+        ArrayList<Item> loadedItems = store.load(type);
+        assertEquals(1, loadedItems.size());
+    }
+
+    @Test
+    void load_truncatedFile_backupLoaded() throws IOException, FileIsEmptyException, FileIsCorruptedException {
+        Path dir = Files.createTempDirectory("store-test");
+        Store store = new Store(dir.toString(), "menu.json");
+
+        ArrayList<Item> items = new ArrayList<>();
+        items.add(new Item("chicken rice", 2.50));
+        store.save(items);
+        items.add(new Item("bubble tea", 5.00));
+        store.save(items);
+
+        Path file = dir.resolve("menu.json");
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length / 2));
+        assertEquals(1, store.loadList(Item.class).size());
+
+        Files.write(file, new byte[0]);
+        assertEquals(1, store.loadList(Item.class).size());
+    }
+
+    @Test
+    void load_corruptedFileWithoutBackup_exceptionThrown() throws IOException {
+        Path dir = Files.createTempDirectory("store-test");
+        Store store = new Store(dir.toString(), "menu.json");
+
+        ArrayList<Item> items = new ArrayList<>();
+        items.add(new Item("chicken rice", 2.50));
+        store.save(items);
+
+        Path file = dir.resolve("menu.json");
+        String content = Files.readString(file);
+        Files.write(file, content.replace("250", "950").getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(FileIsCorruptedException.class, () -> store.load(type));
+    }
+
+    @Test
+    void loadRecords_savedRecords_itemsLoaded() throws IOException, FileIsEmptyException, FileIsCorruptedException {
+        Path dir = Files.createTempDirectory("store-test");
+        Store store = new Store(dir.toString(), "menu.bin");
+
+        ArrayList<Item> items = new ArrayList<>();
+        items.add(new Item(1, "chicken rice", 250));
+        items.add(new Item(2, "bubble tea", 500));
+        store.saveRecords(items, itemCodec);
+
+        ArrayList<Item> loadedItems = store.loadRecords(itemCodec);
+        assertEquals(2, loadedItems.size());
+        assertEquals(2, loadedItems.get(1).getId());
+        assertEquals("bubble tea", loadedItems.get(1).getName());
+        assertEquals(500, loadedItems.get(1).getPriceInCents());
+    }
+
+    @Test
+    void loadRecords_corruptedFile_backupLoaded() throws IOException, FileIsEmptyException, FileIsCorruptedException {
+        Path dir = Files.createTempDirectory("store-test");
+        Store store = new Store(dir.toString(), "menu.bin");
+
+        ArrayList<Item> items = new ArrayList<>();
+        items.add(new Item(1, "chicken rice", 250));
+        store.saveRecords(items, itemCodec);
+        items.add(new Item(2, "bubble tea", 500));
+        store.saveRecords(items, itemCodec);
+
+        Path file = dir.resolve("menu.bin");
+        byte[] content = Files.readAllBytes(file);
+        content[content.length / 2] ^= 1;
+        Files.write(file, content);
+
+        assertEquals(1, store.loadRecords(itemCodec).size());
+
+        Files.delete(dir.resolve("menu.bin.bak"));
+        assertThrows(FileIsCorruptedException.class, () -> store.loadRecords(itemCodec));
+    }
+
     @Test
-    void save_order() {
+    void loadRecords_emptyFile_backupLoaded() throws IOException, FileIsEmptyException, FileIsCorruptedException {
+        Path dir = Files.createTempDirectory("store-test");
+        Store store = new Store(dir.toString(), "menu.bin");
+
+        ArrayList<Item> items = new ArrayList<>();
+        items.add(new Item(1, "chicken rice", 250));
+        store.saveRecords(items, itemCodec);
+        store.saveRecords(items, itemCodec);
+
+        Files.write(dir.resolve("menu.bin"), new byte[0]);
+        assertEquals(1, store.loadRecords(itemCodec).size());
 
+        Files.delete(dir.resolve("menu.bin.bak"));
+        assertThrows(FileIsCorruptedException.class, () -> store.loadRecords(itemCodec));
     }
 }